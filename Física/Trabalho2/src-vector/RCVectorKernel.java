@@ -0,0 +1,43 @@
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Avalia i(t) = (V₀ / R) * e^(-t / (RC)) em blocos de tempos usando a Vector API (SIMD).
+ * Carregado por {@link RCCircuitCalculator} apenas quando o módulo está disponível.
+ *
+ * Compilar e executar com:
+ *   javac -d bin src/*.java ../comum/src/*.java
+ *   javac --add-modules jdk.incubator.vector -cp bin -d bin src-vector/*.java
+ *   java --add-modules jdk.incubator.vector -cp bin Main
+ */
+class RCVectorKernel implements RCCircuitCalculator.KernelVetorial {
+
+    private static final VectorSpecies<Double> ESPECIE = DoubleVector.SPECIES_PREFERRED;
+
+    @Override
+    public void preencher(double R, double C, double V0, double tStart, double step,
+                          double[] tempos, double[] correntes, int n) {
+        double tau = R * C;
+        double i0 = V0 / R;
+        int faixas = ESPECIE.length();
+        int limite = ESPECIE.loopBound(n);
+
+        // Índices 0, 1, ..., faixas - 1 de cada bloco
+        DoubleVector indices = DoubleVector.zero(ESPECIE).addIndex(1);
+
+        int k = 0;
+        for (; k < limite; k += faixas) {
+            DoubleVector tempo = indices.add(k).mul(step).add(tStart);
+            tempo.intoArray(tempos, k);
+            tempo.div(-tau).lanewise(VectorOperators.EXP).mul(i0).intoArray(correntes, k);
+        }
+
+        // Amostras restantes
+        for (; k < n; k++) {
+            double t = tStart + k * step;
+            tempos[k] = t;
+            correntes[k] = i0 * Math.exp(-t / tau);
+        }
+    }
+}
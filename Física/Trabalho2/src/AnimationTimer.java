@@ -1,5 +1,6 @@
 import javax.swing.*;
 import java.awt.*;
+import java.awt.image.BufferedImage;
 import java.util.List;
 
 /**
@@ -15,7 +16,17 @@ public class AnimationTimer {
      * @param intervaloMs Intervalo entre cada ponto (em milissegundos)
      */
     public static void exibirAnimado(List<RCCircuitCalculator.Ponto> pontos, int intervaloMs) {
-        if (pontos == null || pontos.isEmpty()) {
+        exibirAnimado(pontos == null ? null : RCCircuitCalculator.Curva.de(pontos), intervaloMs);
+    }
+
+    /**
+     * Exibe a animação a partir de uma curva armazenada em colunas.
+     *
+     * @param curva       Curva (tempo, corrente) a ser desenhada
+     * @param intervaloMs Intervalo entre cada ponto (em milissegundos)
+     */
+    public static void exibirAnimado(RCCircuitCalculator.Curva curva, int intervaloMs) {
+        if (curva == null || curva.vazia()) {
             JOptionPane.showMessageDialog(null, "Nenhum dado para exibir na animação.",
                     "Erro", JOptionPane.ERROR_MESSAGE);
             return;
@@ -27,12 +38,14 @@ public class AnimationTimer {
         frame.setLocationRelativeTo(null);
         frame.setResizable(false);
 
-        PainelAnimado painel = new PainelAnimado(pontos);
+        PainelAnimado painel = new PainelAnimado(curva);
         frame.add(painel);
         frame.setVisible(true);
 
         // Timer para animar a curva ponto a ponto
+        Metricas.Cadencia cadencia = Metricas.cadencia("animacao.atraso", intervaloMs * 1_000_000L);
         Timer timer = new Timer(intervaloMs, e -> {
+            cadencia.disparo();
             painel.avancar();
             painel.repaint();
             if (painel.acabou()) {
@@ -45,15 +58,38 @@ public class AnimationTimer {
 
     /**
      * Painel que desenha o gráfico animado, ponto a ponto.
+     * O gráfico é mantido numa imagem persistente: eixos, grade e rótulos são desenhados
+     * uma vez e, a cada pintura, só os pontos novos desde a última são acrescentados,
+     * de modo que o custo por quadro não cresce com o número de pontos já exibidos.
      */
     private static class PainelAnimado extends JPanel {
 
-        private final List<RCCircuitCalculator.Ponto> pontos;
+        private static final Color COR_GRADE = new Color(220, 220, 220);
+        private static final Color COR_CURVA = new Color(0, 102, 204);
+        private static final Font FONTE_ROTULOS = new Font("SansSerif", Font.PLAIN, 11);
+        private static final Font FONTE_TITULO = new Font("SansSerif", Font.BOLD, 14);
+        private static final Font FONTE_EIXOS = new Font("SansSerif", Font.PLAIN, 12);
+        private static final Metricas.Pintura PINTURA = Metricas.pintura("PainelAnimado");
+
+        private final RCCircuitCalculator.Curva curva;
         private int indiceAtual = 0;
         private final int margem = 60;
 
-        public PainelAnimado(List<RCCircuitCalculator.Ponto> pontos) {
-            this.pontos = pontos;
+        // Escalas calculadas uma única vez
+        private final double tMax;
+        private final double iMax;
+
+        // Imagem persistente, coordenadas em pixels e quantos pontos já foram desenhados nela
+        private BufferedImage buffer;
+        private double escalaBuffer;
+        private int[] xs = new int[0];
+        private int[] ys = new int[0];
+        private int indiceDesenhado = 0;
+
+        public PainelAnimado(RCCircuitCalculator.Curva curva) {
+            this.curva = curva;
+            this.tMax = curva.tempo(curva.tamanho() - 1);
+            this.iMax = curva.correnteMaxima();
             setBackground(Color.WHITE);
         }
 
@@ -61,7 +97,7 @@ public class AnimationTimer {
          * Avança um ponto na animação.
          */
         public void avancar() {
-            if (indiceAtual < pontos.size()) {
+            if (indiceAtual < curva.tamanho()) {
                 indiceAtual++;
             }
         }
@@ -70,25 +106,61 @@ public class AnimationTimer {
          * Verifica se todos os pontos já foram desenhados.
          */
         public boolean acabou() {
-            return indiceAtual >= pontos.size();
+            return indiceAtual >= curva.tamanho();
         }
 
         @Override
         protected void paintComponent(Graphics g) {
+            long inicio = PINTURA.inicio();
+            desenhar(g);
+            PINTURA.terminar(g, inicio);
+        }
+
+        private void desenhar(Graphics g) {
             super.paintComponent(g);
-            if (pontos.isEmpty() || indiceAtual == 0) return;
+            if (curva.vazia()) return;
 
             Graphics2D g2 = (Graphics2D) g;
-            g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
-
             int w = getWidth();
             int h = getHeight();
+
+            // Se o tamanho ou a escala mudarem, refaz o fundo e redesenha os pontos já exibidos
+            double escala = g2.getTransform().getScaleX();
+            if (buffer == null || escala != escalaBuffer
+                    || buffer.getWidth() != (int) Math.ceil(w * escala)
+                    || buffer.getHeight() != (int) Math.ceil(h * escala)) {
+                prepararBuffer(w, h, escala);
+            }
+
+            desenharNovosPontos();
+            g2.drawImage(buffer, 0, 0, w, h, null);
+        }
+
+        /**
+         * Cria a imagem persistente com o fundo estático e converte a curva para pixels.
+         */
+        private void prepararBuffer(int w, int h, double escala) {
+            buffer = new BufferedImage(
+                    Math.max(1, (int) Math.ceil(w * escala)),
+                    Math.max(1, (int) Math.ceil(h * escala)),
+                    BufferedImage.TYPE_INT_RGB);
+            escalaBuffer = escala;
+            indiceDesenhado = 0;
+
             int largura = w - 2 * margem;
             int altura = h - 2 * margem;
+            int n = curva.tamanho();
+            if (xs.length < n) {
+                xs = new int[n];
+                ys = new int[n];
+            }
+            ChartGenerator.converterParaPixels(curva, tMax, iMax, margem, h - margem, largura, altura, xs, ys);
 
-            // Determina escala com base nos dados
-            double tMax = pontos.get(pontos.size() - 1).tempo;
-            double iMax = pontos.stream().mapToDouble(p -> p.corrente).max().orElse(1.0);
+            Graphics2D g2 = criarGraficos();
+            g2.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+
+            g2.setColor(getBackground());
+            g2.fillRect(0, 0, w, h);
 
             // Desenha eixos
             g2.setColor(Color.BLACK);
@@ -97,63 +169,70 @@ public class AnimationTimer {
 
             // Desenha grid e rótulos
             int div = 10;
-            g2.setFont(new Font("SansSerif", Font.PLAIN, 11));
-            g2.setColor(new Color(220, 220, 220));
+            g2.setFont(FONTE_ROTULOS);
+            FontMetrics fm = g2.getFontMetrics();
 
             for (int i = 0; i <= div; i++) {
                 int x = margem + i * largura / div;
                 int y = h - margem - i * altura / div;
 
+                g2.setColor(COR_GRADE);
                 g2.drawLine(x, margem, x, h - margem); // vertical
                 g2.drawLine(margem, y, w - margem, y); // horizontal
 
                 // Rótulos do eixo X
                 g2.setColor(Color.DARK_GRAY);
                 String tLabel = String.format("%.1f", tMax * i / div);
-                int tWidth = g2.getFontMetrics().stringWidth(tLabel);
-                g2.drawString(tLabel, x - tWidth / 2, h - margem + 20);
+                g2.drawString(tLabel, x - fm.stringWidth(tLabel) / 2, h - margem + 20);
 
                 // Rótulos do eixo Y
                 String iLabel = String.format("%.2f", iMax * i / div);
-                int iWidth = g2.getFontMetrics().stringWidth(iLabel);
-                g2.drawString(iLabel, margem - iWidth - 10, y + 5);
-
-                g2.setColor(new Color(220, 220, 220)); // volta para a cor da grade
-            }
-
-            // Desenha a curva animada
-            g2.setColor(new Color(0, 102, 204));
-            int lastX = -1, lastY = -1;
-
-            for (int i = 0; i < indiceAtual; i++) {
-                RCCircuitCalculator.Ponto p = pontos.get(i);
-                int x = margem + (int) ((p.tempo / tMax) * largura);
-                int y = h - margem - (int) ((p.corrente / iMax) * altura);
-
-                g2.fillOval(x - 2, y - 2, 4, 4); // ponto
-
-                if (lastX != -1) {
-                    g2.drawLine(lastX, lastY, x, y);
-                }
-
-                lastX = x;
-                lastY = y;
+                g2.drawString(iLabel, margem - fm.stringWidth(iLabel) - 10, y + 5);
             }
 
             // Título e nomes dos eixos
             g2.setColor(Color.BLACK);
-            g2.setFont(new Font("SansSerif", Font.BOLD, 14));
+            g2.setFont(FONTE_TITULO);
             String titulo = "Animação de Corrente i(t)";
             int tw = g2.getFontMetrics().stringWidth(titulo);
             g2.drawString(titulo, (w - tw) / 2, margem / 2);
 
-            g2.setFont(new Font("SansSerif", Font.PLAIN, 12));
+            g2.setFont(FONTE_EIXOS);
             g2.drawString("Tempo (s)", w / 2 - 30, h - 10);
 
             // Rótulo vertical girado
             g2.rotate(-Math.PI / 2);
             g2.drawString("Corrente (A)", -h / 2 - 40, 20);
-            g2.rotate(Math.PI / 2); // volta ao normal
+
+            g2.dispose();
+        }
+
+        /**
+         * Acrescenta à imagem apenas os pontos entre o último desenhado e o índice atual.
+         */
+        private void desenharNovosPontos() {
+            if (indiceDesenhado >= indiceAtual) return;
+
+            Graphics2D g2 = criarGraficos();
+            g2.setColor(COR_CURVA);
+
+            for (int i = indiceDesenhado; i < indiceAtual; i++) {
+                g2.fillOval(xs[i] - 2, ys[i] - 2, 4, 4); // ponto
+
+                if (i > 0) {
+                    g2.drawLine(xs[i - 1], ys[i - 1], xs[i], ys[i]);
+                }
+            }
+
+            g2.dispose();
+            indiceDesenhado = indiceAtual;
+        }
+
+        private Graphics2D criarGraficos() {
+            Graphics2D g2 = buffer.createGraphics();
+            g2.scale(escalaBuffer, escalaBuffer);
+            g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            return g2;
         }
     }
 }
@@ -0,0 +1,313 @@
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Execução em lote do simulador de circuito RC, sem interface gráfica (não carrega AWT/Swing).
+ * As amostras são geradas em fluxo e gravadas por um canal NIO com buffer, em CSV ou em
+ * binário little-endian.
+ *
+ * Uso:
+ *   java -cp bin BatchMain [--formato csv|bin|mapa] [--saida arquivo] [--tolerancia t] --parametros arquivo
+ *   java -cp bin BatchMain [--formato csv|bin|mapa] [--saida arquivo] [--tolerancia t] R C V0 tStart tEnd step [R C V0 ...]
+ *
+ * O arquivo de parâmetros tem um caso por linha (R C V0 tStart tEnd step), separados por
+ * espaço, vírgula ou ponto e vírgula, com ponto decimal. Linhas vazias e iniciadas por # são ignoradas.
+ * Sem --saida, o resultado vai para a saída padrão.
+ * Com --tolerancia, cada caso usa a amostragem adaptativa
+ * ({@link RCCircuitCalculator#calcularCorrenteAdaptativa}) em vez de toda a grade uniforme, e a
+ * economia de pontos de cada caso é informada na saída de erros (não vale para o formato mapa).
+ *
+ * Formato CSV: cabeçalho "caso,tempo,corrente" e uma linha por amostra (caso começa em 0).
+ * Formato binário (little-endian):
+ *   cabeçalho:  4 bytes "RCB1", int32 quantidade de casos
+ *   cada caso:  6 x float64 (R, C, V0, tStart, tEnd, step), int64 amostras,
+ *               seguido de amostras x (float64 tempo, float64 corrente)
+ * Formato mapa: arquivo de curvas mapeável em memória, ver {@link RCCurveStore} (exige --saida).
+ */
+public class BatchMain {
+
+    private static final int TAMANHO_BUFFER = 1 << 20;
+    private static final byte[] ASSINATURA_BINARIA = {'R', 'C', 'B', '1'};
+
+    public static void main(String[] args) {
+        Metricas.publicar("Trabalho2");
+        try {
+            System.exit(executar(args));
+        } catch (IllegalArgumentException e) {
+            System.err.println("Erro: " + e.getMessage());
+            System.err.println("Uso: BatchMain [--formato csv|bin|mapa] [--saida arquivo] [--tolerancia t] "
+                    + "(--parametros arquivo | R C V0 tStart tEnd step ...)");
+            System.exit(2);
+        } catch (IOException | UncheckedIOException e) {
+            System.err.println("Erro de E/S: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Interpreta os argumentos, executa todos os casos e devolve o código de saída.
+     */
+    static int executar(String[] args) throws IOException {
+        String formato = "csv";
+        String saida = null;
+        double tolerancia = Double.NaN;
+        List<double[]> casos = new ArrayList<>();
+        List<String> numeros = new ArrayList<>();
+
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--formato":
+                    formato = valorDaOpcao(args, ++i, "--formato");
+                    break;
+                case "--saida":
+                    saida = valorDaOpcao(args, ++i, "--saida");
+                    break;
+                case "--tolerancia":
+                    tolerancia = converterNumero(valorDaOpcao(args, ++i, "--tolerancia"), "--tolerancia");
+                    break;
+                case "--parametros":
+                    casos.addAll(lerArquivoDeParametros(Paths.get(valorDaOpcao(args, ++i, "--parametros"))));
+                    break;
+                default:
+                    numeros.add(args[i]);
+            }
+        }
+
+        if (numeros.size() % 6 != 0) {
+            throw new IllegalArgumentException("Os parâmetros devem vir em grupos de 6 (R C V0 tStart tEnd step).");
+        }
+        for (int i = 0; i < numeros.size(); i += 6) {
+            casos.add(converterCaso(numeros.subList(i, i + 6).toArray(new String[0]), "argumentos"));
+        }
+        if (casos.isEmpty()) {
+            throw new IllegalArgumentException("Nenhum caso informado.");
+        }
+        if (!formato.equals("csv") && !formato.equals("bin") && !formato.equals("mapa")) {
+            throw new IllegalArgumentException("Formato desconhecido: " + formato + " (use csv, bin ou mapa).");
+        }
+        if (formato.equals("mapa")) {
+            if (saida == null) {
+                throw new IllegalArgumentException("O formato mapa exige --saida.");
+            }
+            if (!Double.isNaN(tolerancia)) {
+                throw new IllegalArgumentException("O formato mapa não aceita --tolerancia.");
+            }
+            RCCurveStore.gravar(Paths.get(saida), casos);
+            return 0;
+        }
+
+        // Valida todos os casos antes de começar a gravar
+        for (double[] p : casos) {
+            RCCircuitCalculator.validarParametros(p[0], p[1], p[3], p[4], p[5]);
+        }
+        if (!Double.isNaN(tolerancia) && !(tolerancia > 0 && tolerancia < 1)) {
+            throw new IllegalArgumentException("Tolerância deve estar entre 0 e 1.");
+        }
+
+        try (WritableByteChannel canal = abrirSaida(saida)) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(TAMANHO_BUFFER).order(ByteOrder.LITTLE_ENDIAN);
+            if (formato.equals("csv")) {
+                gravarCsv(casos, tolerancia, canal, buffer);
+            } else {
+                gravarBinario(casos, tolerancia, canal, buffer);
+            }
+            esvaziar(canal, buffer);
+        }
+
+        return 0;
+    }
+
+    private static String valorDaOpcao(String[] args, int indice, String opcao) {
+        if (indice >= args.length) {
+            throw new IllegalArgumentException("Falta o valor de " + opcao + ".");
+        }
+        return args[indice];
+    }
+
+    private static List<double[]> lerArquivoDeParametros(Path arquivo) throws IOException {
+        List<double[]> casos = new ArrayList<>();
+        List<String> linhas = Files.readAllLines(arquivo, StandardCharsets.UTF_8);
+        for (int i = 0; i < linhas.size(); i++) {
+            String linha = linhas.get(i).trim();
+            if (linha.isEmpty() || linha.startsWith("#")) continue;
+            casos.add(converterCaso(linha.split("[\\s,;]+"), arquivo + ":" + (i + 1)));
+        }
+        return casos;
+    }
+
+    private static double[] converterCaso(String[] campos, String origem) {
+        if (campos.length != 6) {
+            throw new IllegalArgumentException(origem + ": esperados 6 valores (R C V0 tStart tEnd step), encontrados "
+                    + campos.length + ".");
+        }
+        double[] caso = new double[6];
+        for (int i = 0; i < 6; i++) {
+            caso[i] = converterNumero(campos[i], origem);
+        }
+        return caso;
+    }
+
+    private static double converterNumero(String campo, String origem) {
+        try {
+            return Double.parseDouble(campo);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(origem + ": valor inválido \"" + campo + "\".");
+        }
+    }
+
+    private static WritableByteChannel abrirSaida(String saida) throws IOException {
+        if (saida == null) {
+            return Channels.newChannel(new FileOutputStream(FileDescriptor.out));
+        }
+        return FileChannel.open(Paths.get(saida), StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+    }
+
+    private static void gravarCsv(List<double[]> casos, double tolerancia, WritableByteChannel canal,
+                                  ByteBuffer buffer) {
+        EscritorCsv escritor = new EscritorCsv(canal, buffer);
+        RCCircuitCalculator.Curva adaptativa = new RCCircuitCalculator.Curva();
+        escritor.texto("caso,tempo,corrente\n");
+        for (int caso = 0; caso < casos.size(); caso++) {
+            double[] p = casos.get(caso);
+            escritor.caso = Integer.toString(caso);
+            if (Double.isNaN(tolerancia)) {
+                RCCircuitCalculator.gerarCorrente(p[0], p[1], p[2], p[3], p[4], p[5], escritor);
+            } else {
+                calcularAdaptativa(caso, p, tolerancia, adaptativa);
+                entregar(adaptativa, escritor);
+            }
+        }
+    }
+
+    private static void gravarBinario(List<double[]> casos, double tolerancia, WritableByteChannel canal,
+                                      ByteBuffer buffer) {
+        EscritorBinario escritor = new EscritorBinario(canal, buffer);
+        RCCircuitCalculator.Curva adaptativa = new RCCircuitCalculator.Curva();
+        escritor.reservar(8);
+        buffer.put(ASSINATURA_BINARIA).putInt(casos.size());
+        for (int caso = 0; caso < casos.size(); caso++) {
+            double[] p = casos.get(caso);
+            if (!Double.isNaN(tolerancia)) {
+                calcularAdaptativa(caso, p, tolerancia, adaptativa);
+            }
+            escritor.reservar(6 * Double.BYTES + Long.BYTES);
+            for (double valor : p) {
+                buffer.putDouble(valor);
+            }
+            if (Double.isNaN(tolerancia)) {
+                buffer.putLong(RCCircuitCalculator.contarAmostras(p[3], p[4], p[5]));
+                RCCircuitCalculator.gerarCorrente(p[0], p[1], p[2], p[3], p[4], p[5], escritor);
+            } else {
+                buffer.putLong(adaptativa.tamanho());
+                entregar(adaptativa, escritor);
+            }
+        }
+    }
+
+    /**
+     * Calcula o caso com amostragem adaptativa e informa a economia de pontos na saída de erros.
+     */
+    private static void calcularAdaptativa(int caso, double[] p, double tolerancia,
+                                           RCCircuitCalculator.Curva destino) {
+        RCCircuitCalculator.calcularCorrenteAdaptativa(p[0], p[1], p[2], p[3], p[4], p[5], tolerancia, destino);
+        System.err.println("caso " + caso + ": "
+                + new RCCircuitCalculator.RelatorioAdaptativo(destino, p[3], p[4], p[5]));
+    }
+
+    private static void entregar(RCCircuitCalculator.Curva curva, RCCircuitCalculator.ConsumidorAmostra consumidor) {
+        for (int k = 0; k < curva.tamanho(); k++) {
+            consumidor.aceitar(curva.tempo(k), curva.corrente(k));
+        }
+    }
+
+    /**
+     * Grava o conteúdo pendente do buffer no canal e o deixa pronto para novas escritas.
+     */
+    private static void esvaziar(WritableByteChannel canal, ByteBuffer buffer) {
+        buffer.flip();
+        try {
+            while (buffer.hasRemaining()) {
+                canal.write(buffer);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        buffer.clear();
+    }
+
+    /**
+     * Escreve as amostras como linhas CSV "caso,tempo,corrente".
+     */
+    private static class EscritorCsv implements RCCircuitCalculator.ConsumidorAmostra {
+        private final WritableByteChannel canal;
+        private final ByteBuffer buffer;
+        private String caso = "0";
+
+        EscritorCsv(WritableByteChannel canal, ByteBuffer buffer) {
+            this.canal = canal;
+            this.buffer = buffer;
+        }
+
+        @Override
+        public void aceitar(double tempo, double corrente) {
+            texto(caso);
+            texto(",");
+            texto(Double.toString(tempo));
+            texto(",");
+            texto(Double.toString(corrente));
+            texto("\n");
+        }
+
+        /**
+         * Copia texto ASCII para o buffer, esvaziando-o quando necessário.
+         */
+        void texto(String s) {
+            if (buffer.remaining() < s.length()) {
+                esvaziar(canal, buffer);
+            }
+            for (int i = 0; i < s.length(); i++) {
+                buffer.put((byte) s.charAt(i));
+            }
+        }
+    }
+
+    /**
+     * Escreve as amostras como pares (tempo, corrente) em float64 little-endian.
+     */
+    private static class EscritorBinario implements RCCircuitCalculator.ConsumidorAmostra {
+        private final WritableByteChannel canal;
+        private final ByteBuffer buffer;
+
+        EscritorBinario(WritableByteChannel canal, ByteBuffer buffer) {
+            this.canal = canal;
+            this.buffer = buffer;
+        }
+
+        @Override
+        public void aceitar(double tempo, double corrente) {
+            reservar(2 * Double.BYTES);
+            buffer.putDouble(tempo).putDouble(corrente);
+        }
+
+        void reservar(int bytes) {
+            if (buffer.remaining() < bytes) {
+                esvaziar(canal, buffer);
+            }
+        }
+    }
+}
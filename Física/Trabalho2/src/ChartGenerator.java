@@ -1,5 +1,6 @@
 import javax.swing.*;
 import java.awt.*;
+import java.awt.image.BufferedImage;
 import java.util.List;
 
 /**
@@ -13,7 +14,17 @@ public class ChartGenerator {
      * @param pontos Lista de pontos (tempo, corrente)
      */
     public static void exibirGrafico(List<RCCircuitCalculator.Ponto> pontos) {
-        if (pontos == null || pontos.isEmpty()) {
+        exibirGrafico(pontos == null ? null : RCCircuitCalculator.Curva.de(pontos));
+    }
+
+    /**
+     * Exibe o gráfico de uma curva armazenada em colunas, sem conversão para pontos.
+     * Aceita curvas em memória ou mapeadas de arquivo ({@link RCCurveStore}).
+     *
+     * @param curva Curva (tempo, corrente)
+     */
+    public static void exibirGrafico(RCCircuitCalculator.Amostras curva) {
+        if (curva == null || curva.vazia()) {
             JOptionPane.showMessageDialog(null, "Nenhum dado para exibir no gráfico.",
                     "Erro", JOptionPane.ERROR_MESSAGE);
             return;
@@ -24,40 +35,174 @@ public class ChartGenerator {
         frame.setSize(800, 600);
         frame.setLocationRelativeTo(null);
         frame.setResizable(false);
-        frame.add(new GraficoPanel(pontos));
+        frame.add(new GraficoPanel(curva));
         frame.setVisible(true);
     }
 
+    /**
+     * Converte as amostras da curva em coordenadas de tela, com o eixo X de 0 a tMax
+     * e o eixo Y de 0 a iMax dentro da área útil do gráfico.
+     *
+     * @param curva   Curva de origem
+     * @param tMax    Tempo correspondente à borda direita
+     * @param iMax    Corrente correspondente à borda superior
+     * @param x0      Pixel X da origem
+     * @param y0      Pixel Y da origem (base do gráfico)
+     * @param largura Largura útil em pixels
+     * @param altura  Altura útil em pixels
+     * @param xs      Recebe as coordenadas X (tamanho mínimo: curva.tamanho())
+     * @param ys      Recebe as coordenadas Y (tamanho mínimo: curva.tamanho())
+     */
+    static void converterParaPixels(RCCircuitCalculator.Curva curva, double tMax, double iMax,
+                                    int x0, int y0, int largura, int altura, int[] xs, int[] ys) {
+        int n = curva.tamanho();
+        double[] tempos = curva.tempos();
+        double[] correntes = curva.correntes();
+        double escalaX = largura / tMax;
+        double escalaY = altura / iMax;
+
+        for (int i = 0; i < n; i++) {
+            xs[i] = x0 + (int) (tempos[i] * escalaX);
+            ys[i] = y0 - (int) (correntes[i] * escalaY);
+        }
+    }
+
     /**
      * Painel customizado que desenha o gráfico na tela.
+     * Eixos, grade, rótulos e títulos são desenhados uma única vez numa imagem em cache,
+     * refeita apenas quando o tamanho do painel ou os dados mudam; a cada pintura
+     * só a curva é desenhada por cima. Curvas com mais amostras que pixels são reduzidas
+     * por {@link CurveDecimator}, então o custo da pintura depende da largura da tela.
+     * O mesmo painel pode exibir curvas diferentes ao longo do tempo (ver {@link #exibir}).
      */
-    private static class GraficoPanel extends JPanel {
+    static class GraficoPanel extends JPanel {
+
+        private static final Color COR_GRADE = new Color(220, 220, 220);
+        private static final Color COR_CURVA = new Color(0, 102, 204);
+        private static final Font FONTE_ROTULOS = new Font("SansSerif", Font.PLAIN, 11);
+        private static final Font FONTE_TITULO = new Font("SansSerif", Font.BOLD, 14);
+        private static final Font FONTE_EIXOS = new Font("SansSerif", Font.PLAIN, 12);
+        private static final Metricas.Pintura PINTURA = Metricas.pintura("GraficoPanel");
 
-        private final List<RCCircuitCalculator.Ponto> pontos;
+        private RCCircuitCalculator.Amostras curva;
         private final int margem = 60;
+        private int[] xs = new int[0];
+        private int[] ys = new int[0];
 
-        public GraficoPanel(List<RCCircuitCalculator.Ponto> pontos) {
-            this.pontos = pontos;
+        private double tMax;
+        private double iMax;
+
+        // Curva reduzida para a largura atual (colunasReduzida = -1 quando precisa ser refeita)
+        private final RCCircuitCalculator.Curva reduzida = new RCCircuitCalculator.Curva();
+        private int colunasReduzida = -1;
+
+        // Camada estática em cache, a escala (HiDPI) com que foi gerada e se ainda vale para os dados
+        private BufferedImage fundo;
+        private double escalaFundo;
+        private boolean fundoValido;
+
+        public GraficoPanel(RCCircuitCalculator.Amostras curva) {
+            this.curva = curva;
             setBackground(Color.WHITE);
+            dadosAlterados();
+        }
+
+        /**
+         * Passa a exibir outra curva, reaproveitando a imagem de fundo e os vetores do painel.
+         */
+        void exibir(RCCircuitCalculator.Amostras novaCurva) {
+            this.curva = novaCurva;
+            dadosAlterados();
+        }
+
+        /**
+         * Recalcula as escalas e invalida a camada em cache. Deve ser chamado
+         * sempre que o conteúdo da curva for alterado.
+         */
+        void dadosAlterados() {
+            if (!curva.vazia()) {
+                tMax = curva.tempo(curva.tamanho() - 1);
+                iMax = curva.correnteMaxima();
+            }
+            fundoValido = false;
+            colunasReduzida = -1;
+            repaint();
         }
 
         @Override
         protected void paintComponent(Graphics g) {
+            long inicio = PINTURA.inicio();
+            desenhar(g);
+            PINTURA.terminar(g, inicio);
+        }
+
+        private void desenhar(Graphics g) {
             super.paintComponent(g);
 
-            if (pontos.isEmpty()) return;
+            if (curva.vazia()) return;
 
             Graphics2D g2 = (Graphics2D) g;
-            g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
 
             int w = getWidth();
             int h = getHeight();
             int largura = w - 2 * margem;
             int altura = h - 2 * margem;
 
-            // Valores máximos
-            double tMax = pontos.get(pontos.size() - 1).tempo;
-            double iMax = pontos.stream().mapToDouble(p -> p.corrente).max().orElse(1.0);
+            // Fundo em cache (imagem recriada só se o tamanho ou a escala mudarem)
+            double escala = g2.getTransform().getScaleX();
+            if (fundo == null || escala != escalaFundo
+                    || fundo.getWidth() != (int) Math.ceil(w * escala)
+                    || fundo.getHeight() != (int) Math.ceil(h * escala)) {
+                fundo = new BufferedImage(
+                        Math.max(1, (int) Math.ceil(w * escala)),
+                        Math.max(1, (int) Math.ceil(h * escala)),
+                        BufferedImage.TYPE_INT_RGB);
+                escalaFundo = escala;
+                fundoValido = false;
+            }
+            if (!fundoValido) {
+                renderizarFundo(w, h);
+                fundoValido = true;
+            }
+            g2.drawImage(fundo, 0, 0, w, h, null);
+
+            // Curva, reduzida a no máximo 2 amostras por coluna de pixels
+            int colunas = Math.max(1, (int) Math.ceil(largura * escala));
+            if (colunasReduzida != colunas) {
+                CurveDecimator.reduzir(curva, colunas, reduzida);
+                colunasReduzida = colunas;
+            }
+
+            int n = reduzida.tamanho();
+            if (xs.length < n) {
+                xs = new int[n];
+                ys = new int[n];
+            }
+            converterParaPixels(reduzida, tMax, iMax, margem, h - margem, largura, altura, xs, ys);
+
+            g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            g2.setColor(COR_CURVA);
+
+            for (int i = 0; i < n; i++) {
+                g2.fillOval(xs[i] - 2, ys[i] - 2, 4, 4); // ponto
+            }
+            g2.drawPolyline(xs, ys, n);
+        }
+
+        /**
+         * Desenha eixos, grade, rótulos e títulos na imagem de fundo.
+         */
+        private void renderizarFundo(int w, int h) {
+            Graphics2D g2 = fundo.createGraphics();
+            g2.scale(escalaFundo, escalaFundo);
+            g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            g2.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+
+            g2.setColor(getBackground());
+            g2.fillRect(0, 0, w, h);
+
+            int largura = w - 2 * margem;
+            int altura = h - 2 * margem;
 
             // Eixos
             g2.setColor(Color.BLACK);
@@ -66,64 +211,43 @@ public class ChartGenerator {
 
             // Grade e rótulos
             int div = 10;
-            g2.setFont(new Font("SansSerif", Font.PLAIN, 11));
-            g2.setColor(new Color(220, 220, 220));
+            g2.setFont(FONTE_ROTULOS);
+            FontMetrics fm = g2.getFontMetrics();
 
             for (int i = 0; i <= div; i++) {
                 int x = margem + i * largura / div;
                 int y = h - margem - i * altura / div;
 
                 // Grade
+                g2.setColor(COR_GRADE);
                 g2.drawLine(x, margem, x, h - margem); // vertical
                 g2.drawLine(margem, y, w - margem, y); // horizontal
 
                 // Rótulo eixo X
                 g2.setColor(Color.DARK_GRAY);
                 String tLabel = String.format("%.1f", tMax * i / div);
-                int tWidth = g2.getFontMetrics().stringWidth(tLabel);
-                g2.drawString(tLabel, x - tWidth / 2, h - margem + 20);
-                g2.setColor(new Color(220, 220, 220));
+                g2.drawString(tLabel, x - fm.stringWidth(tLabel) / 2, h - margem + 20);
 
                 // Rótulo eixo Y
-                g2.setColor(Color.DARK_GRAY);
                 String iLabel = String.format("%.2f", iMax * i / div);
-                int iWidth = g2.getFontMetrics().stringWidth(iLabel);
-                g2.drawString(iLabel, margem - iWidth - 10, y + 5);
-                g2.setColor(new Color(220, 220, 220));
-            }
-
-            // Curva
-            int lastX = -1, lastY = -1;
-            g2.setColor(new Color(0, 102, 204));
-
-            for (RCCircuitCalculator.Ponto p : pontos) {
-                int x = margem + (int) ((p.tempo / tMax) * largura);
-                int y = h - margem - (int) ((p.corrente / iMax) * altura);
-
-                g2.fillOval(x - 2, y - 2, 4, 4); // ponto
-
-                if (lastX != -1) {
-                    g2.drawLine(lastX, lastY, x, y);
-                }
-
-                lastX = x;
-                lastY = y;
+                g2.drawString(iLabel, margem - fm.stringWidth(iLabel) - 10, y + 5);
             }
 
             // Título e eixos
             g2.setColor(Color.BLACK);
-            g2.setFont(new Font("SansSerif", Font.BOLD, 14));
+            g2.setFont(FONTE_TITULO);
             String titulo = "Gráfico de Corrente i(t)";
             int tw = g2.getFontMetrics().stringWidth(titulo);
             g2.drawString(titulo, (w - tw) / 2, margem / 2);
 
-            g2.setFont(new Font("SansSerif", Font.PLAIN, 12));
+            g2.setFont(FONTE_EIXOS);
             g2.drawString("Tempo (s)", w / 2 - 30, h - 10);
 
             // Rótulo eixo Y rotacionado
             g2.rotate(-Math.PI / 2);
             g2.drawString("Corrente (A)", -h / 2 - 40, 20);
-            g2.rotate(Math.PI / 2); // volta ao normal
+
+            g2.dispose();
         }
     }
 }
@@ -0,0 +1,402 @@
+import java.util.Arrays;
+
+/**
+ * Integração numérica do transitório de vários circuitos independentes ao mesmo tempo.
+ * Cada instância é um lote de circuitos do mesmo tipo (RC, RL ou RLC em série), todos
+ * alimentados por uma fonte de tensão v(t) qualquer e avançados juntos no tempo.
+ *
+ * Os parâmetros e o estado ficam em vetores (um por grandeza, indexados pelo circuito),
+ * de modo que cada etapa do integrador é um laço simples sobre vetores contíguos.
+ * A tensão das fontes é avaliada uma vez por etapa, antes das contas.
+ *
+ * Equações de estado (i = corrente no circuito, vC = tensão no capacitor):
+ *   RC:  dvC/dt = (v(t) - vC) / (RC),         i = (v(t) - vC) / R
+ *   RL:  di/dt  = (v(t) - R i) / L
+ *   RLC: di/dt  = (v(t) - R i - vC) / L,      dvC/dt = i / C
+ *
+ * A descarga de {@link RCCircuitCalculator} corresponde ao RC com v(t) = 0 e vC(0) = V₀
+ * (corrente com sinal oposto), e a carga com v(t) = V₀ e vC(0) = 0 tem exatamente
+ * i(t) = (V₀ / R) * e^(-t / (RC)).
+ */
+public class CircuitTransientSolver {
+
+    /**
+     * Tipo dos circuitos de um lote e quantas variáveis de estado cada um tem.
+     */
+    public enum Tipo {
+        RC(1), RL(1), RLC(2);
+
+        final int estados;
+
+        Tipo(int estados) {
+            this.estados = estados;
+        }
+    }
+
+    /**
+     * Tensão da fonte em função do tempo.
+     */
+    @FunctionalInterface
+    public interface Fonte {
+        double tensao(double t);
+
+        static Fonte constante(double volts) {
+            return t -> volts;
+        }
+
+        /** 0 V antes de {@code instante} e {@code volts} a partir dele. */
+        static Fonte degrau(double volts, double instante) {
+            return t -> t < instante ? 0 : volts;
+        }
+
+        static Fonte senoidal(double amplitude, double frequencia, double fase) {
+            double omega = 2 * Math.PI * frequencia;
+            return t -> amplitude * Math.sin(omega * t + fase);
+        }
+
+        /** Onda quadrada entre +amplitude e -amplitude, começando no nível positivo. */
+        static Fonte quadrada(double amplitude, double periodo) {
+            return t -> (Math.floorMod((long) Math.floor(2 * t / periodo), 2L) == 0) ? amplitude : -amplitude;
+        }
+    }
+
+    // Coeficientes de Dormand–Prince 5(4)
+    private static final double[] DP_C = {0, 1.0 / 5, 3.0 / 10, 4.0 / 5, 8.0 / 9, 1, 1};
+    private static final double[][] DP_A = {
+            {},
+            {1.0 / 5},
+            {3.0 / 40, 9.0 / 40},
+            {44.0 / 45, -56.0 / 15, 32.0 / 9},
+            {19372.0 / 6561, -25360.0 / 2187, 64448.0 / 6561, -212.0 / 729},
+            {9017.0 / 3168, -355.0 / 33, 46732.0 / 5247, 49.0 / 176, -5103.0 / 18656},
+            {35.0 / 384, 0, 500.0 / 1113, 125.0 / 192, -2187.0 / 6784, 11.0 / 84},
+    };
+    /** Diferença entre os pesos de 5ª e de 4ª ordem, usada para estimar o erro do passo. */
+    private static final double[] DP_E = {
+            71.0 / 57600, 0, -71.0 / 16695, 71.0 / 1920, -17253.0 / 339200, 22.0 / 525, -1.0 / 40};
+
+    private static final double FATOR_SEGURANCA = 0.9;
+    private static final double FATOR_MINIMO = 0.2;
+    private static final double FATOR_MAXIMO = 5.0;
+
+    private final Tipo tipo;
+    private final int quantidade;
+
+    // Parâmetros, um valor por circuito
+    private final double[] resistencias;
+    private final double[] inversoIndutancia;
+    private final double[] inversoCapacitancia;
+    private final Fonte[] fontes;
+
+    // Estado: estado[0] é vC (RC) ou i (RL, RLC); estado[1] é vC (RLC)
+    private final double[][] estado;
+    private double tempo;
+
+    // Áreas de trabalho reaproveitadas entre os passos
+    private final double[] tensoes;
+    private final double[][] intermediario;
+    private final double[][][] etapas;
+    private boolean primeiraEtapaValida;
+
+    private double passoAdaptativo = Double.NaN;
+    private long passosAceitos;
+    private long passosRejeitados;
+
+    /**
+     * Cria um lote de {@code quantidade} circuitos do tipo informado, todos parados em t = 0.
+     * Os parâmetros de cada circuito devem ser definidos antes de integrar.
+     */
+    public CircuitTransientSolver(Tipo tipo, int quantidade) {
+        if (quantidade < 1) {
+            throw new IllegalArgumentException("O lote deve ter pelo menos um circuito.");
+        }
+        this.tipo = tipo;
+        this.quantidade = quantidade;
+        this.resistencias = new double[quantidade];
+        this.inversoIndutancia = new double[quantidade];
+        this.inversoCapacitancia = new double[quantidade];
+        this.fontes = new Fonte[quantidade];
+        this.estado = new double[tipo.estados][quantidade];
+        this.tensoes = new double[quantidade];
+        this.intermediario = new double[tipo.estados][quantidade];
+        this.etapas = new double[DP_C.length][tipo.estados][quantidade];
+        Arrays.fill(fontes, Fonte.constante(0));
+    }
+
+    /**
+     * Define o circuito RC de índice {@code k}.
+     *
+     * @param vC0 Tensão inicial no capacitor (V)
+     */
+    public void definirRC(int k, double R, double C, double vC0, Fonte fonte) {
+        exigirTipo(Tipo.RC);
+        validar(R > 0, "Resistência R deve ser maior que zero.");
+        validar(C > 0, "Capacitância C deve ser maior que zero.");
+        resistencias[k] = R;
+        inversoCapacitancia[k] = 1 / C;
+        fontes[k] = fonte;
+        estado[0][k] = vC0;
+        primeiraEtapaValida = false;
+    }
+
+    /**
+     * Define o circuito RL de índice {@code k}.
+     *
+     * @param i0 Corrente inicial no indutor (A)
+     */
+    public void definirRL(int k, double R, double L, double i0, Fonte fonte) {
+        exigirTipo(Tipo.RL);
+        validar(R >= 0, "Resistência R não pode ser negativa.");
+        validar(L > 0, "Indutância L deve ser maior que zero.");
+        resistencias[k] = R;
+        inversoIndutancia[k] = 1 / L;
+        fontes[k] = fonte;
+        estado[0][k] = i0;
+        primeiraEtapaValida = false;
+    }
+
+    /**
+     * Define o circuito RLC série de índice {@code k}.
+     *
+     * @param i0  Corrente inicial (A)
+     * @param vC0 Tensão inicial no capacitor (V)
+     */
+    public void definirRLC(int k, double R, double L, double C, double i0, double vC0, Fonte fonte) {
+        exigirTipo(Tipo.RLC);
+        validar(R >= 0, "Resistência R não pode ser negativa.");
+        validar(L > 0, "Indutância L deve ser maior que zero.");
+        validar(C > 0, "Capacitância C deve ser maior que zero.");
+        resistencias[k] = R;
+        inversoIndutancia[k] = 1 / L;
+        inversoCapacitancia[k] = 1 / C;
+        fontes[k] = fonte;
+        estado[0][k] = i0;
+        estado[1][k] = vC0;
+        primeiraEtapaValida = false;
+    }
+
+    public Tipo tipo() {
+        return tipo;
+    }
+
+    public int quantidade() {
+        return quantidade;
+    }
+
+    /** Instante atual do lote (s). */
+    public double tempo() {
+        return tempo;
+    }
+
+    /** Corrente no circuito {@code k} no instante atual (A). */
+    public double corrente(int k) {
+        if (tipo == Tipo.RC) {
+            return (fontes[k].tensao(tempo) - estado[0][k]) / resistencias[k];
+        }
+        return estado[0][k];
+    }
+
+    /** Tensão no capacitor do circuito {@code k} no instante atual (V); NaN no RL. */
+    public double tensaoCapacitor(int k) {
+        switch (tipo) {
+            case RC:
+                return estado[0][k];
+            case RLC:
+                return estado[1][k];
+            default:
+                return Double.NaN;
+        }
+    }
+
+    /** Passos aceitos pelo integrador adaptativo até agora. */
+    public long passosAceitos() {
+        return passosAceitos;
+    }
+
+    /** Passos descartados pelo integrador adaptativo por excederem a tolerância. */
+    public long passosRejeitados() {
+        return passosRejeitados;
+    }
+
+    /**
+     * Avança todos os circuitos até {@code tFim} com Runge–Kutta clássico de 4ª ordem,
+     * em {@code passos} passos iguais.
+     */
+    public void avancarRK4(double tFim, int passos) {
+        validar(tFim > tempo, "Tempo final deve ser maior que o atual.");
+        validar(passos > 0, "Quantidade de passos deve ser maior que zero.");
+
+        double h = (tFim - tempo) / passos;
+        double[][] k1 = etapas[0], k2 = etapas[1], k3 = etapas[2], k4 = etapas[3];
+        for (int p = 0; p < passos; p++) {
+            double t = tempo;
+            derivadas(t, estado, k1);
+            combinar(h / 2, k1);
+            derivadas(t + h / 2, intermediario, k2);
+            combinar(h / 2, k2);
+            derivadas(t + h / 2, intermediario, k3);
+            combinar(h, k3);
+            derivadas(t + h, intermediario, k4);
+
+            for (int v = 0; v < tipo.estados; v++) {
+                double[] x = estado[v], a = k1[v], b = k2[v], c = k3[v], d = k4[v];
+                for (int k = 0; k < quantidade; k++) {
+                    x[k] += h / 6 * (a[k] + 2 * b[k] + 2 * c[k] + d[k]);
+                }
+            }
+            tempo = (p == passos - 1) ? tFim : t + h;
+        }
+        primeiraEtapaValida = false;
+    }
+
+    /**
+     * Avança todos os circuitos até {@code tFim} com o método adaptativo de Dormand–Prince 5(4).
+     * O passo é comum a todo o lote e escolhido pelo circuito de maior erro estimado, que deve
+     * ficar abaixo de {@code tolAbs + tolRel * |x|} em cada variável de estado. O último passo
+     * é encurtado para terminar exatamente em {@code tFim}, e o tamanho de passo é mantido
+     * entre chamadas, de modo que avançar em vários intervalos não recomeça do zero.
+     *
+     * @throws ArithmeticException se a estimativa de erro deixar de ser finita (circuito não
+     *                             definido, fonte que devolve NaN etc.) ou se o passo ficar pequeno
+     *                             demais para avançar o tempo; o lote fica no último passo aceito
+     */
+    public void integrarDormandPrince(double tFim, double tolRel, double tolAbs) {
+        validar(tFim > tempo, "Tempo final deve ser maior que o atual.");
+        validar(tolRel >= 0 && tolAbs >= 0 && tolRel + tolAbs > 0, "Tolerâncias inválidas.");
+
+        if (!primeiraEtapaValida) {
+            derivadas(tempo, estado, etapas[0]);
+            primeiraEtapaValida = true;
+        }
+        if (Double.isNaN(passoAdaptativo)) {
+            passoAdaptativo = (tFim - tempo) / 100;
+        }
+
+        double[][] novo = etapas[DP_C.length - 1];
+        while (tempo < tFim) {
+            boolean ultimo = tempo + passoAdaptativo >= tFim;
+            double h = ultimo ? tFim - tempo : passoAdaptativo;
+            if (!ultimo && h <= Math.ulp(tempo)) {
+                throw new ArithmeticException("Passo de integração pequeno demais em t = " + tempo
+                        + "; o sistema é rígido demais para a tolerância pedida.");
+            }
+
+            for (int s = 1; s < DP_C.length; s++) {
+                for (int v = 0; v < tipo.estados; v++) {
+                    double[] x = estado[v], y = intermediario[v];
+                    System.arraycopy(x, 0, y, 0, quantidade);
+                    for (int j = 0; j < s; j++) {
+                        double coef = h * DP_A[s][j];
+                        if (coef == 0) continue;
+                        double[] kj = etapas[j][v];
+                        for (int k = 0; k < quantidade; k++) {
+                            y[k] += coef * kj[k];
+                        }
+                    }
+                }
+                // A última etapa é avaliada no próprio ponto de 5ª ordem e reaproveitada no passo seguinte
+                derivadas(tempo + DP_C[s] * h, intermediario, etapas[s]);
+            }
+
+            double erro = 0;
+            for (int v = 0; v < tipo.estados; v++) {
+                double[] x = estado[v], y = intermediario[v];
+                for (int k = 0; k < quantidade; k++) {
+                    double estimativa = 0;
+                    for (int j = 0; j < DP_E.length; j++) {
+                        estimativa += DP_E[j] * etapas[j][v][k];
+                    }
+                    double escala = tolAbs + tolRel * Math.max(Math.abs(x[k]), Math.abs(y[k]));
+                    erro = Math.max(erro, Math.abs(h * estimativa) / escala);
+                }
+            }
+            // NaN ou infinito: sem isso o passo vira NaN e o laço nunca termina
+            if (!(erro <= Double.MAX_VALUE)) {
+                throw new ArithmeticException("Estimativa de erro não finita em t = " + tempo
+                        + "; verifique se todos os circuitos foram definidos e se as fontes são finitas.");
+            }
+
+            double fator = erro == 0 ? FATOR_MAXIMO
+                    : Math.min(FATOR_MAXIMO, Math.max(FATOR_MINIMO, FATOR_SEGURANCA * Math.pow(erro, -0.2)));
+            if (erro <= 1) {
+                for (int v = 0; v < tipo.estados; v++) {
+                    System.arraycopy(intermediario[v], 0, estado[v], 0, quantidade);
+                    System.arraycopy(novo[v], 0, etapas[0][v], 0, quantidade);
+                }
+                tempo = ultimo ? tFim : tempo + h;
+                passosAceitos++;
+                // Não deixa o passo encurtado para acertar tFim reduzir o passo seguinte
+                if (!ultimo) passoAdaptativo = h * fator;
+            } else {
+                passosRejeitados++;
+                passoAdaptativo = h * fator;
+            }
+        }
+    }
+
+    /**
+     * Preenche {@link #intermediario} com estado + h * derivada, para as etapas do RK4.
+     */
+    private void combinar(double h, double[][] derivada) {
+        for (int v = 0; v < tipo.estados; v++) {
+            double[] x = estado[v], d = derivada[v], y = intermediario[v];
+            for (int k = 0; k < quantidade; k++) {
+                y[k] = x[k] + h * d[k];
+            }
+        }
+    }
+
+    /**
+     * Calcula as derivadas do estado {@code x} no instante {@code t} para todos os circuitos.
+     */
+    private void derivadas(double t, double[][] x, double[][] dx) {
+        // Circuitos que compartilham a mesma fonte avaliam a tensão uma vez só
+        Fonte anterior = null;
+        double v = 0;
+        for (int k = 0; k < quantidade; k++) {
+            if (fontes[k] != anterior) {
+                anterior = fontes[k];
+                v = anterior.tensao(t);
+            }
+            tensoes[k] = v;
+        }
+
+        double[] R = resistencias, invL = inversoIndutancia, invC = inversoCapacitancia, vs = tensoes;
+        switch (tipo) {
+            case RC: {
+                double[] vC = x[0], dvC = dx[0];
+                for (int k = 0; k < quantidade; k++) {
+                    dvC[k] = (vs[k] - vC[k]) * invC[k] / R[k];
+                }
+                break;
+            }
+            case RL: {
+                double[] i = x[0], di = dx[0];
+                for (int k = 0; k < quantidade; k++) {
+                    di[k] = (vs[k] - R[k] * i[k]) * invL[k];
+                }
+                break;
+            }
+            case RLC: {
+                double[] i = x[0], vC = x[1], di = dx[0], dvC = dx[1];
+                for (int k = 0; k < quantidade; k++) {
+                    di[k] = (vs[k] - R[k] * i[k] - vC[k]) * invL[k];
+                    dvC[k] = i[k] * invC[k];
+                }
+                break;
+            }
+        }
+    }
+
+    private void exigirTipo(Tipo esperado) {
+        if (tipo != esperado) {
+            throw new IllegalStateException("Lote do tipo " + tipo + " não aceita circuitos " + esperado + ".");
+        }
+    }
+
+    private static void validar(boolean condicao, String mensagem) {
+        if (!condicao) {
+            throw new IllegalArgumentException(mensagem);
+        }
+    }
+}
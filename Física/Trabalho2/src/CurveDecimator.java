@@ -0,0 +1,84 @@
+/**
+ * Reduz curvas muito densas para desenho na tela, mantendo a forma visível.
+ * Divide o eixo do tempo em colunas (normalmente uma por pixel) e, de cada coluna,
+ * mantém apenas as amostras de menor e de maior corrente, na ordem em que aparecem.
+ * O resultado tem no máximo 2 amostras por coluna, independentemente do tamanho da curva.
+ */
+public class CurveDecimator {
+
+    /**
+     * Reduz {@code origem} para no máximo {@code 2 * colunas} amostras.
+     * Os tempos da curva devem estar em ordem crescente.
+     *
+     * @param origem  Amostras completas (em memória ou mapeadas de arquivo)
+     * @param colunas Número de colunas (pixels) do eixo do tempo. Deve ser > 0.
+     * @param destino Curva reaproveitável que recebe o resultado. Se for null, uma nova é criada.
+     * @return A curva reduzida (o próprio {@code destino}, quando informado)
+     */
+    public static RCCircuitCalculator.Curva reduzir(RCCircuitCalculator.Amostras origem, int colunas,
+                                                    RCCircuitCalculator.Curva destino) {
+        if (colunas <= 0) {
+            throw new IllegalArgumentException("O número de colunas deve ser maior que zero.");
+        }
+
+        RCCircuitCalculator.Curva reduzida = (destino != null) ? destino : new RCCircuitCalculator.Curva(2 * colunas);
+        reduzida.limpar();
+
+        int n = origem.tamanho();
+        if (n == 0) return reduzida;
+
+        double t0 = origem.tempo(0);
+        double duracao = origem.tempo(n - 1) - t0;
+        if (n <= 2 * colunas || duracao <= 0) {
+            reduzida.garantirCapacidade(n);
+            for (int i = 0; i < n; i++) {
+                reduzida.adicionar(origem.tempo(i), origem.corrente(i));
+            }
+            return reduzida;
+        }
+
+        reduzida.garantirCapacidade(2 * colunas);
+        double colunasPorSegundo = colunas / duracao;
+
+        int colunaAtual = 0;
+        int indiceMin = 0;
+        int indiceMax = 0;
+        double correnteMin = origem.corrente(0);
+        double correnteMax = correnteMin;
+
+        for (int i = 1; i < n; i++) {
+            double corrente = origem.corrente(i);
+            int coluna = Math.min((int) ((origem.tempo(i) - t0) * colunasPorSegundo), colunas - 1);
+            if (coluna != colunaAtual) {
+                emitir(reduzida, origem, indiceMin, indiceMax);
+                colunaAtual = coluna;
+                indiceMin = i;
+                indiceMax = i;
+                correnteMin = corrente;
+                correnteMax = corrente;
+            } else if (corrente < correnteMin) {
+                indiceMin = i;
+                correnteMin = corrente;
+            } else if (corrente > correnteMax) {
+                indiceMax = i;
+                correnteMax = corrente;
+            }
+        }
+        emitir(reduzida, origem, indiceMin, indiceMax);
+
+        return reduzida;
+    }
+
+    /**
+     * Acrescenta o mínimo e o máximo de uma coluna, na ordem original das amostras.
+     */
+    private static void emitir(RCCircuitCalculator.Curva destino, RCCircuitCalculator.Amostras origem,
+                               int indiceMin, int indiceMax) {
+        int primeiro = Math.min(indiceMin, indiceMax);
+        int ultimo = Math.max(indiceMin, indiceMax);
+        destino.adicionar(origem.tempo(primeiro), origem.corrente(primeiro));
+        if (ultimo != primeiro) {
+            destino.adicionar(origem.tempo(ultimo), origem.corrente(ultimo));
+        }
+    }
+}
@@ -4,6 +4,7 @@
  */
 public class Main {
     public static void main(String[] args) {
+        Metricas.publicar("Trabalho2");
         // Garante que a interface seja iniciada na thread correta
         javax.swing.SwingUtilities.invokeLater(() -> {
             new MainWindow(); // Cria e exibe a janela principal
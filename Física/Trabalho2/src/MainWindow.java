@@ -1,20 +1,40 @@
 import javax.swing.*;
+import javax.swing.event.DocumentEvent;
+import javax.swing.event.DocumentListener;
 import java.awt.*;
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
-import java.util.List;
+import java.util.concurrent.ExecutionException;
 
 public class MainWindow extends JFrame {
 
     private JTextField rField, cField, v0Field, tStartField, tEndField, stepField;
     private JLabel statusLabel;
+    private JButton gerarBtn, cancelBtn;
+    private SwingWorker<RCCircuitCalculator.Curva, Void> calculationWorker;
+
+    // Curvas já geradas pelo botão, limitadas a 10 milhões de amostras (~160 MB)
+    private static final RCResultCache RESULT_CACHE = new RCResultCache(10_000_000);
+
+    // Modo ao vivo: gráfico embutido, atraso entre digitação e recálculo e duas curvas
+    // alternadas (uma exibida, outra recebendo o próximo cálculo)
+    private static final int LIVE_DELAY_MS = 80;
+    private static final int HEIGHT_NORMAL = 440;
+    private static final int HEIGHT_LIVE = 840;
+    private JCheckBox liveBox;
+    private ChartGenerator.GraficoPanel livePanel;
+    private Timer liveTimer;
+    private LiveWorker liveWorker;
+    private double[] livePendingParams;
+    private RCCircuitCalculator.Curva liveShown = new RCCircuitCalculator.Curva();
+    private RCCircuitCalculator.Curva liveSpare = new RCCircuitCalculator.Curva();
 
     public MainWindow() {
         super("Simulador de Circuito RC");
 
         // Aparência geral
         setDefaultCloseOperation(EXIT_ON_CLOSE);
-        setSize(900, 440);
+        setSize(900, HEIGHT_NORMAL);
         setLocationRelativeTo(null);
         setResizable(false);
         setLayout(new BorderLayout(10, 10));
@@ -54,6 +74,12 @@ public class MainWindow extends JFrame {
 
         centralPanel.add(inputPanel, BorderLayout.CENTER);
 
+        // Gráfico embutido do modo ao vivo (oculto até o modo ser ativado)
+        livePanel = new ChartGenerator.GraficoPanel(liveShown);
+        livePanel.setPreferredSize(new Dimension(0, 380));
+        livePanel.setVisible(false);
+        centralPanel.add(livePanel, BorderLayout.SOUTH);
+
         // Painel lateral com explicação
         JTextArea explicacao = new JTextArea(
             "📘 Fórmula utilizada:\n\n" +
@@ -83,7 +109,8 @@ public class MainWindow extends JFrame {
         buttonPanel.setBackground(Color.WHITE);
 
         JButton resetBtn = new JButton("Limpar");
-        JButton gerarBtn = new JButton("Gerar Gráfico");
+        cancelBtn = new JButton("Cancelar");
+        gerarBtn = new JButton("Gerar Gráfico");
 
         // Estilização institucional
         gerarBtn.setBackground(new Color(0, 120, 215));
@@ -97,7 +124,19 @@ public class MainWindow extends JFrame {
         resetBtn.setOpaque(true);
         resetBtn.setBorderPainted(false);
 
+        cancelBtn.setBackground(new Color(230, 230, 230));
+        cancelBtn.setFont(new Font("SansSerif", Font.PLAIN, 13));
+        cancelBtn.setOpaque(true);
+        cancelBtn.setBorderPainted(false);
+        cancelBtn.setEnabled(false);
+
+        liveBox = new JCheckBox("Ao vivo");
+        liveBox.setBackground(Color.WHITE);
+        liveBox.setFont(new Font("SansSerif", Font.PLAIN, 13));
+
+        buttonPanel.add(liveBox);
         buttonPanel.add(resetBtn);
+        buttonPanel.add(cancelBtn);
         buttonPanel.add(gerarBtn);
         add(buttonPanel, BorderLayout.SOUTH);
 
@@ -121,11 +160,13 @@ public class MainWindow extends JFrame {
                         return;
                     }
 
-                    List<RCCircuitCalculator.Ponto> pontos =
-                        RCCircuitCalculator.calcularCorrente(R, C, V0, tStart, tEnd, step);
-
-                    ChartGenerator.exibirGrafico(pontos);
-                    statusLabel.setText("Gráfico gerado com sucesso!");
+                    RCCircuitCalculator.Curva cached = RESULT_CACHE.buscar(R, C, V0, tStart, tEnd, step);
+                    if (cached != null) {
+                        ChartGenerator.exibirGrafico(cached);
+                        statusLabel.setText("Gráfico gerado com sucesso (resultado em cache)!");
+                    } else {
+                        startCalculation(R, C, V0, tStart, tEnd, step);
+                    }
 
                 } catch (NumberFormatException ex) {
                     // já tratado no parseInput
@@ -135,6 +176,40 @@ public class MainWindow extends JFrame {
             }
         });
 
+        cancelBtn.addActionListener(e -> {
+            if (calculationWorker != null) {
+                calculationWorker.cancel(true);
+            }
+        });
+
+        liveTimer = new Timer(LIVE_DELAY_MS, e -> runLiveUpdate());
+        liveTimer.setRepeats(false);
+
+        DocumentListener liveListener = new DocumentListener() {
+            public void insertUpdate(DocumentEvent e) { scheduleLiveUpdate(); }
+            public void removeUpdate(DocumentEvent e) { scheduleLiveUpdate(); }
+            public void changedUpdate(DocumentEvent e) { scheduleLiveUpdate(); }
+        };
+        for (JTextField field : new JTextField[]{rField, cField, v0Field, tStartField, tEndField, stepField}) {
+            field.getDocument().addDocumentListener(liveListener);
+        }
+
+        liveBox.addActionListener(e -> {
+            boolean live = liveBox.isSelected();
+            livePanel.setVisible(live);
+            setSize(getWidth(), live ? HEIGHT_LIVE : HEIGHT_NORMAL);
+            validate();
+            if (live) {
+                runLiveUpdate();
+            } else {
+                liveTimer.stop();
+                livePendingParams = null;
+                if (liveWorker != null) {
+                    liveWorker.requestStop();
+                }
+            }
+        });
+
         resetBtn.addActionListener(e -> {
             rField.setText("1000");
             cField.setText("0.001");
@@ -148,6 +223,168 @@ public class MainWindow extends JFrame {
         setVisible(true);
     }
 
+    /**
+     * Calcula a curva numa thread de fundo, mostrando o andamento em statusLabel.
+     * A janela continua respondendo e o cálculo pode ser interrompido pelo botão Cancelar.
+     */
+    private void startCalculation(double R, double C, double V0, double tStart, double tEnd, double step) {
+        gerarBtn.setEnabled(false);
+        cancelBtn.setEnabled(true);
+        statusLabel.setText("Calculando... 0%");
+
+        SwingWorker<RCCircuitCalculator.Curva, Void> worker = new SwingWorker<RCCircuitCalculator.Curva, Void>() {
+            @Override
+            protected RCCircuitCalculator.Curva doInBackground() {
+                return RCCircuitCalculator.calcularCorrenteRapida(R, C, V0, tStart, tEnd, step, null,
+                    (concluidas, total) -> {
+                        setProgress((int) (100L * concluidas / total));
+                        return !isCancelled();
+                    });
+            }
+
+            @Override
+            protected void done() {
+                gerarBtn.setEnabled(true);
+                cancelBtn.setEnabled(false);
+                if (calculationWorker == this) {
+                    calculationWorker = null;
+                }
+
+                if (isCancelled()) {
+                    statusLabel.setText("Cálculo cancelado.");
+                    return;
+                }
+                try {
+                    ChartGenerator.exibirGrafico(RESULT_CACHE.guardar(R, C, V0, tStart, tEnd, step, get()));
+                    statusLabel.setText("Gráfico gerado com sucesso!");
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                } catch (ExecutionException ex) {
+                    Throwable causa = ex.getCause();
+                    if (causa instanceof OutOfMemoryError) {
+                        showError("Memória insuficiente: aumente o passo de tempo ou reduza o intervalo.");
+                    } else {
+                        showError(causa.getMessage());
+                    }
+                }
+            }
+        };
+        worker.addPropertyChangeListener(evt -> {
+            if ("progress".equals(evt.getPropertyName()) && !worker.isDone()) {
+                statusLabel.setText("Calculando... " + evt.getNewValue() + "%");
+            }
+        });
+        calculationWorker = worker;
+        worker.execute();
+    }
+
+    /**
+     * Reinicia a contagem do atraso a cada tecla; o recálculo só ocorre quando a digitação para.
+     */
+    private void scheduleLiveUpdate() {
+        if (liveBox.isSelected()) {
+            liveTimer.restart();
+        }
+    }
+
+    /**
+     * Lê os parâmetros e recalcula a curva do gráfico embutido. Se já houver um cálculo em
+     * andamento, ele é interrompido e o novo começa assim que a thread do anterior terminar
+     * (ver {@link LiveWorker}), de modo que nunca há dois cálculos escrevendo na mesma curva.
+     */
+    private void runLiveUpdate() {
+        double[] params = readParametersQuietly();
+        if (params == null) {
+            statusLabel.setText("Ao vivo: parâmetros incompletos ou inválidos.");
+            return;
+        }
+
+        livePendingParams = params;
+        if (liveWorker != null) {
+            liveWorker.requestStop();
+        } else {
+            startLiveWorker();
+        }
+    }
+
+    private void startLiveWorker() {
+        double[] p = livePendingParams;
+        livePendingParams = null;
+        liveWorker = new LiveWorker(p, liveSpare);
+        liveWorker.execute();
+    }
+
+    /**
+     * Cálculo do modo ao vivo, escrevendo em {@code destino}. Não é cancelado com
+     * {@link SwingWorker#cancel}: isso encerraria o worker (e chamaria {@link #done()}) enquanto
+     * a thread de fundo ainda escreve na curva. Em vez disso, {@link #requestStop()} pede a
+     * interrupção no próximo bloco de amostras, e {@code done()} só roda depois que
+     * {@code doInBackground} realmente retornou. Só então a curva pode ser reaproveitada e o
+     * próximo cálculo começar.
+     */
+    private class LiveWorker extends SwingWorker<RCCircuitCalculator.Curva, Void> {
+        private final double[] p;
+        private final RCCircuitCalculator.Curva destino;
+        private volatile boolean stopRequested;
+
+        LiveWorker(double[] p, RCCircuitCalculator.Curva destino) {
+            this.p = p;
+            this.destino = destino;
+        }
+
+        void requestStop() {
+            stopRequested = true;
+        }
+
+        @Override
+        protected RCCircuitCalculator.Curva doInBackground() {
+            return RCCircuitCalculator.calcularCorrenteRapida(p[0], p[1], p[2], p[3], p[4], p[5], destino,
+                (concluidas, total) -> !stopRequested);
+        }
+
+        @Override
+        protected void done() {
+            liveWorker = null;
+            if (!stopRequested) {
+                try {
+                    RCCircuitCalculator.Curva result = get();
+                    liveSpare = liveShown;
+                    liveShown = result;
+                    livePanel.exibir(liveShown);
+                    statusLabel.setText("Ao vivo: " + liveShown.tamanho() + " pontos.");
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                } catch (ExecutionException ex) {
+                    statusLabel.setText("Ao vivo: " + ex.getCause().getMessage());
+                }
+            }
+            if (livePendingParams != null && liveBox.isSelected()) {
+                startLiveWorker();
+            }
+        }
+    }
+
+    /**
+     * Lê os campos sem exibir diálogos de erro (usado a cada tecla no modo ao vivo).
+     *
+     * @return R, C, V0, tStart, tEnd e step, ou null se algum valor for inválido
+     */
+    private double[] readParametersQuietly() {
+        JTextField[] fields = {rField, cField, v0Field, tStartField, tEndField, stepField};
+        double[] values = new double[fields.length];
+        try {
+            for (int i = 0; i < fields.length; i++) {
+                values[i] = Double.parseDouble(fields[i].getText().trim().replace(",", "."));
+            }
+        } catch (NumberFormatException ex) {
+            return null;
+        }
+        if (values[0] <= 0 || values[1] <= 0 || values[4] <= values[3] || values[5] <= 0) {
+            return null;
+        }
+        return values;
+    }
+
     private JTextField addField(JPanel panel, String labelText, String defaultValue) {
         JLabel label = new JLabel(labelText);
         label.setFont(new Font("SansSerif", Font.PLAIN, 13));
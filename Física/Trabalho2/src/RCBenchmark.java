@@ -0,0 +1,334 @@
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Medições simples de desempenho do cálculo da corrente i(t).
+ * Executar com: java -cp bin RCBenchmark [amostras]
+ */
+public class RCBenchmark {
+
+    private static final double R = 1000;
+    private static final double C = 0.001;
+    private static final double V0 = 5;
+
+    public static void main(String[] args) {
+        int amostras = args.length > 0 ? Integer.parseInt(args[0]) : 5_000_000;
+        double tEnd = 5;
+        double step = tEnd / (amostras - 1);
+
+        System.out.println("Amostras por cálculo: " + amostras);
+        compararAlocacao(tEnd, step);
+        compararPrecisao(tEnd, step);
+        medirGeracaoContinua(tEnd, step);
+        compararVazao(tEnd, step);
+        compararVetorial(tEnd, step);
+        medirEscalabilidadeVarredura();
+        compararAmostragemAdaptativa(tEnd, step);
+        compararSolverTransitorio();
+    }
+
+    /**
+     * Compara bytes alocados por amostra entre o caminho com List<Ponto> e o caminho em colunas.
+     */
+    private static void compararAlocacao(double tEnd, double step) {
+        int repeticoes = 5;
+        RCCircuitCalculator.Curva curva = new RCCircuitCalculator.Curva();
+
+        // Aquecimento
+        for (int i = 0; i < 2; i++) {
+            RCCircuitCalculator.calcularCorrente(R, C, V0, 0, tEnd, step);
+            RCCircuitCalculator.calcularCorrente(R, C, V0, 0, tEnd, step, curva);
+        }
+
+        long bytesLista = 0, nsLista = 0, amostrasLista = 0;
+        for (int i = 0; i < repeticoes; i++) {
+            long b0 = bytesAlocados();
+            long t0 = System.nanoTime();
+            List<RCCircuitCalculator.Ponto> pontos = RCCircuitCalculator.calcularCorrente(R, C, V0, 0, tEnd, step);
+            nsLista += System.nanoTime() - t0;
+            bytesLista += bytesAlocados() - b0;
+            amostrasLista += pontos.size();
+        }
+
+        long bytesColunas = 0, nsColunas = 0, amostrasColunas = 0;
+        for (int i = 0; i < repeticoes; i++) {
+            long b0 = bytesAlocados();
+            long t0 = System.nanoTime();
+            RCCircuitCalculator.calcularCorrente(R, C, V0, 0, tEnd, step, curva);
+            nsColunas += System.nanoTime() - t0;
+            bytesColunas += bytesAlocados() - b0;
+            amostrasColunas += curva.tamanho();
+        }
+
+        System.out.println("\n== Alocação: List<Ponto> x Curva (colunas reaproveitadas) ==");
+        imprimir("List<Ponto>", bytesLista, nsLista, amostrasLista);
+        imprimir("Curva", bytesColunas, nsColunas, amostrasColunas);
+    }
+
+    /**
+     * Erro do modo rápido (recorrência) em relação à exponencial exata, avaliada nos mesmos tempos.
+     */
+    private static void compararPrecisao(double tEnd, double step) {
+        // Intervalo longo (várias constantes de tempo) para expor o erro acumulado
+        double tEndLongo = tEnd * 10;
+        double stepLongo = step * 10;
+        RCCircuitCalculator.Curva rapida =
+                RCCircuitCalculator.calcularCorrenteRapida(R, C, V0, 0, tEndLongo, stepLongo, null);
+
+        double tau = R * C;
+        double erroAbsMax = 0, erroRelMax = 0;
+        for (int k = 0; k < rapida.tamanho(); k++) {
+            double exata = (V0 / R) * Math.exp(-rapida.tempo(k) / tau);
+            double erroAbs = Math.abs(rapida.corrente(k) - exata);
+            erroAbsMax = Math.max(erroAbsMax, erroAbs);
+            if (exata != 0) {
+                erroRelMax = Math.max(erroRelMax, erroAbs / Math.abs(exata));
+            }
+        }
+
+        // Deriva do tempo acumulado (tempo += step) em relação ao tempo por índice
+        List<RCCircuitCalculator.Ponto> pontos =
+                RCCircuitCalculator.calcularCorrente(R, C, V0, 0, tEndLongo, stepLongo);
+        double derivaMax = 0;
+        int comum = Math.min(pontos.size(), rapida.tamanho());
+        for (int k = 0; k < comum; k++) {
+            derivaMax = Math.max(derivaMax, Math.abs(pontos.get(k).tempo - rapida.tempo(k)));
+        }
+
+        System.out.println("\n== Precisão: recorrência (reancoragem a cada "
+                + RCCircuitCalculator.INTERVALO_REANCORAGEM + ") x Math.exp ==");
+        System.out.printf("Amostras: %d (até t = %.1f s, %.0f constantes de tempo)%n",
+                rapida.tamanho(), tEndLongo, tEndLongo / tau);
+        System.out.printf("Erro absoluto máximo:  %.3e A%n", erroAbsMax);
+        System.out.printf("Erro relativo máximo:  %.3e%n", erroRelMax);
+        System.out.printf("Deriva máxima do tempo acumulado (caminho exato): %.3e s%n", derivaMax);
+        System.out.printf("Amostras: exato = %d, rápido = %d%n", pontos.size(), rapida.tamanho());
+    }
+
+    /**
+     * Gera um intervalo 20 vezes maior que o normal sem montar a curva, medindo vazão e alocação.
+     */
+    private static void medirGeracaoContinua(double tEnd, double step) {
+        double[] soma = new double[1];
+        RCCircuitCalculator.gerarCorrente(R, C, V0, 0, tEnd, step, (t, i) -> soma[0] += i); // aquecimento
+
+        long b0 = bytesAlocados();
+        long t0 = System.nanoTime();
+        long amostras = RCCircuitCalculator.gerarCorrente(R, C, V0, 0, tEnd * 20, step, (t, i) -> soma[0] += i);
+        long ns = System.nanoTime() - t0;
+        long bytes = bytesAlocados() - b0;
+
+        System.out.println("\n== Geração contínua (sem guardar a curva) ==");
+        System.out.printf("%d amostras, %d bytes alocados no total, %.1f M amostras/s (soma = %.6f)%n",
+                amostras, bytes, amostras * 1e3 / ns, soma[0]);
+    }
+
+    /**
+     * Amostras por segundo do caminho exato em colunas e do modo rápido.
+     */
+    private static void compararVazao(double tEnd, double step) {
+        int repeticoes = 10;
+        RCCircuitCalculator.Curva curva = new RCCircuitCalculator.Curva();
+
+        for (int i = 0; i < 3; i++) {
+            RCCircuitCalculator.calcularCorrente(R, C, V0, 0, tEnd, step, curva);
+            RCCircuitCalculator.calcularCorrenteRapida(R, C, V0, 0, tEnd, step, curva);
+        }
+
+        long nsExato = 0, amostrasExato = 0;
+        for (int i = 0; i < repeticoes; i++) {
+            long t0 = System.nanoTime();
+            RCCircuitCalculator.calcularCorrente(R, C, V0, 0, tEnd, step, curva);
+            nsExato += System.nanoTime() - t0;
+            amostrasExato += curva.tamanho();
+        }
+
+        long nsRapido = 0, amostrasRapido = 0;
+        for (int i = 0; i < repeticoes; i++) {
+            long t0 = System.nanoTime();
+            RCCircuitCalculator.calcularCorrenteRapida(R, C, V0, 0, tEnd, step, curva);
+            nsRapido += System.nanoTime() - t0;
+            amostrasRapido += curva.tamanho();
+        }
+
+        System.out.println("\n== Vazão: Math.exp por amostra x recorrência ==");
+        System.out.printf("%-12s %8.1f M amostras/s%n", "Math.exp", amostrasExato * 1e3 / nsExato);
+        System.out.printf("%-12s %8.1f M amostras/s%n", "Recorrência", amostrasRapido * 1e3 / nsRapido);
+    }
+
+    /**
+     * Amostras por segundo do laço escalar de referência e do motor vetorial.
+     * Para o motor SIMD estar ativo, compile src-vector e execute com --add-modules jdk.incubator.vector.
+     */
+    private static void compararVetorial(double tEnd, double step) {
+        int repeticoes = 10;
+        RCCircuitCalculator.Curva curva = new RCCircuitCalculator.Curva();
+
+        for (int i = 0; i < 3; i++) {
+            RCCircuitCalculator.calcularCorrente(R, C, V0, 0, tEnd, step, curva);
+            RCCircuitCalculator.calcularCorrenteVetorial(R, C, V0, 0, tEnd, step, curva);
+        }
+
+        long nsEscalar = 0, amostrasEscalar = 0;
+        for (int i = 0; i < repeticoes; i++) {
+            long t0 = System.nanoTime();
+            RCCircuitCalculator.calcularCorrente(R, C, V0, 0, tEnd, step, curva);
+            nsEscalar += System.nanoTime() - t0;
+            amostrasEscalar += curva.tamanho();
+        }
+
+        long nsVetorial = 0, amostrasVetorial = 0;
+        for (int i = 0; i < repeticoes; i++) {
+            long t0 = System.nanoTime();
+            RCCircuitCalculator.calcularCorrenteVetorial(R, C, V0, 0, tEnd, step, curva);
+            nsVetorial += System.nanoTime() - t0;
+            amostrasVetorial += curva.tamanho();
+        }
+
+        System.out.println("\n== Vazão: escalar x vetorial (motor SIMD "
+                + (RCCircuitCalculator.motorVetorialDisponivel() ? "ativo" : "indisponível, usando laço escalar") + ") ==");
+        System.out.printf("%-12s %8.1f M amostras/s%n", "Escalar", amostrasEscalar * 1e3 / nsEscalar);
+        System.out.printf("%-12s %8.1f M amostras/s%n", "Vetorial", amostrasVetorial * 1e3 / nsVetorial);
+    }
+
+    /**
+     * Combinações por segundo da varredura paralela com 1, 2, 4, ... núcleos.
+     */
+    private static void medirEscalabilidadeVarredura() {
+        double[] resistencias = RCParameterSweep.faixa(100, 10_000, 20);
+        double[] capacitancias = RCParameterSweep.faixa(1e-4, 1e-2, 20);
+        double[] tensoes = RCParameterSweep.faixa(1, 12, 10);
+        double tEnd = 5, step = 1e-4;
+        int combinacoes = resistencias.length * capacitancias.length * tensoes.length;
+
+        System.out.println("\n== Varredura paralela: " + combinacoes + " combinações, "
+                + (int) (tEnd / step + 1) + " amostras cada ==");
+
+        int nucleos = Runtime.getRuntime().availableProcessors();
+        double base = 0;
+        for (int p = 1; ; p = Math.min(p * 2, nucleos)) {
+            ForkJoinPool pool = new ForkJoinPool(p);
+            RCParameterSweep.varrer(resistencias, capacitancias, tensoes, 0, tEnd, step, pool); // aquecimento
+            long t0 = System.nanoTime();
+            RCParameterSweep.varrer(resistencias, capacitancias, tensoes, 0, tEnd, step, pool);
+            double segundos = (System.nanoTime() - t0) / 1e9;
+            pool.shutdown();
+
+            double vazao = combinacoes / segundos;
+            if (p == 1) base = vazao;
+            System.out.printf("%3d núcleo(s): %10.0f combinações/s  (aceleração %.2fx)%n", p, vazao, vazao / base);
+            if (p == nucleos) break;
+        }
+    }
+
+    /**
+     * Pontos da amostragem adaptativa contra a grade uniforme e o erro real da interpolação
+     * linear entre eles, medido em todos os tempos da grade uniforme.
+     */
+    private static void compararAmostragemAdaptativa(double tEnd, double step) {
+        double tau = R * C;
+        double pico = V0 / R;
+        RCCircuitCalculator.Curva adaptativa = new RCCircuitCalculator.Curva();
+
+        System.out.println("\n== Amostragem adaptativa x grade uniforme ==");
+        for (double tolerancia : new double[]{1e-2, 1e-3, 1e-4, 1e-6}) {
+            RCCircuitCalculator.calcularCorrenteAdaptativa(R, C, V0, 0, tEnd, step, tolerancia, adaptativa);
+            long t0 = System.nanoTime();
+            RCCircuitCalculator.calcularCorrenteAdaptativa(R, C, V0, 0, tEnd, step, tolerancia, adaptativa);
+            long ns = System.nanoTime() - t0;
+
+            double erroMax = 0;
+            long n = RCCircuitCalculator.contarAmostras(0, tEnd, step);
+            int trecho = 0;
+            for (long k = 0; k < n; k++) {
+                double t = k * step;
+                while (trecho < adaptativa.tamanho() - 2 && adaptativa.tempo(trecho + 1) < t) trecho++;
+                double t1 = adaptativa.tempo(trecho), t2 = adaptativa.tempo(trecho + 1);
+                double i1 = adaptativa.corrente(trecho), i2 = adaptativa.corrente(trecho + 1);
+                double interpolada = i1 + (i2 - i1) * (t - t1) / (t2 - t1);
+                erroMax = Math.max(erroMax, Math.abs(interpolada - pico * Math.exp(-t / tau)));
+            }
+
+            RCCircuitCalculator.RelatorioAdaptativo relatorio =
+                    new RCCircuitCalculator.RelatorioAdaptativo(adaptativa, 0, tEnd, step);
+            System.out.printf("tolerância %.0e: %s, erro máximo %.2e do pico, %.3f ms%n",
+                    tolerancia, relatorio, erroMax / pico, ns / 1e6);
+        }
+    }
+
+    /**
+     * Confere o integrador numérico de {@link CircuitTransientSolver} contra a fórmula fechada
+     * (carga de RC por degrau de V₀, que tem a mesma i(t) da descarga) e mede a vazão em
+     * passos de circuito por segundo para lotes de tamanhos diferentes.
+     */
+    private static void compararSolverTransitorio() {
+        double[] resistencias = RCParameterSweep.faixa(100, 10_000, 32);
+        double[] capacitancias = RCParameterSweep.faixa(1e-4, 1e-2, 32);
+        int n = resistencias.length * capacitancias.length;
+        double tEnd = 1, intervalo = 0.005;
+        int pontos = (int) Math.round(tEnd / intervalo);
+
+        CircuitTransientSolver rk4 = new CircuitTransientSolver(CircuitTransientSolver.Tipo.RC, n);
+        CircuitTransientSolver dp = new CircuitTransientSolver(CircuitTransientSolver.Tipo.RC, n);
+        CircuitTransientSolver.Fonte degrau = CircuitTransientSolver.Fonte.constante(V0);
+        double[][] exatas = new double[n][];
+        RCCircuitCalculator.Curva curva = new RCCircuitCalculator.Curva();
+        for (int a = 0, k = 0; a < resistencias.length; a++) {
+            for (int b = 0; b < capacitancias.length; b++, k++) {
+                rk4.definirRC(k, resistencias[a], capacitancias[b], 0, degrau);
+                dp.definirRC(k, resistencias[a], capacitancias[b], 0, degrau);
+                RCCircuitCalculator.calcularCorrenteRapida(resistencias[a], capacitancias[b], V0, 0, tEnd, intervalo, curva);
+                exatas[k] = Arrays.copyOf(curva.correntes(), curva.tamanho());
+            }
+        }
+
+        double erroRk4 = 0, erroDp = 0;
+        for (int p = 1; p <= pontos; p++) {
+            rk4.avancarRK4(p * intervalo, 10);
+            dp.integrarDormandPrince(p * intervalo, 1e-9, 1e-12);
+            for (int k = 0; k < n; k++) {
+                double referencia = exatas[k][0];
+                erroRk4 = Math.max(erroRk4, Math.abs(rk4.corrente(k) - exatas[k][p]) / referencia);
+                erroDp = Math.max(erroDp, Math.abs(dp.corrente(k) - exatas[k][p]) / referencia);
+            }
+        }
+
+        System.out.println("\n== Solver de transitório x fórmula fechada: " + n + " circuitos RC, "
+                + pontos + " instantes ==");
+        System.out.printf("RK4 (h = %.0e s):           erro máximo %.2e da corrente inicial%n",
+                intervalo / 10, erroRk4);
+        System.out.printf("Dormand–Prince (tol 1e-9): erro máximo %.2e da corrente inicial, %d passos (%d rejeitados)%n",
+                erroDp, dp.passosAceitos(), dp.passosRejeitados());
+
+        System.out.println("Vazão do RK4 em lote (RLC série, fonte senoidal comum):");
+        CircuitTransientSolver.Fonte senoide = CircuitTransientSolver.Fonte.senoidal(V0, 50, 0);
+        for (int tamanho : new int[]{1, 64, 4096}) {
+            CircuitTransientSolver lote = new CircuitTransientSolver(CircuitTransientSolver.Tipo.RLC, tamanho);
+            for (int k = 0; k < tamanho; k++) {
+                lote.definirRLC(k, 10 + k % 100, 0.1, 1e-4, 0, 0, senoide);
+            }
+            int passos = 40_000_000 / (tamanho + 1000);
+            lote.avancarRK4(0.01, passos / 10); // aquecimento
+            long t0 = System.nanoTime();
+            lote.avancarRK4(0.11, passos);
+            long ns = System.nanoTime() - t0;
+            System.out.printf("%6d circuitos: %8.1f M passos de circuito/s%n",
+                    tamanho, (double) tamanho * passos * 1e3 / ns);
+        }
+    }
+
+    private static void imprimir(String nome, long bytes, long ns, long amostras) {
+        double segundos = ns / 1e9;
+        System.out.printf("%-12s %10.2f bytes/amostra  %10.1f MB/s alocados  %8.1f M amostras/s%n",
+                nome, (double) bytes / amostras, bytes / 1e6 / segundos, amostras / 1e6 / segundos);
+    }
+
+    /**
+     * Bytes alocados pela thread atual até agora (requer HotSpot).
+     */
+    private static long bytesAlocados() {
+        return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean()).getCurrentThreadAllocatedBytes();
+    }
+}
@@ -1,11 +1,66 @@
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.stream.DoubleStream;
+import java.util.stream.LongStream;
 
 /**
  * Classe responsável por calcular a corrente em um circuito RC ao longo do tempo.
  */
 public class RCCircuitCalculator {
 
+    /**
+     * A cada quantas amostras o modo rápido recalcula a exponencial exata,
+     * limitando o erro acumulado pela recorrência.
+     */
+    public static final int INTERVALO_REANCORAGEM = 256;
+
+    /** Amostras calculadas de cada vez no modo de geração contínua. */
+    private static final int BLOCO_GERACAO = INTERVALO_REANCORAGEM * 4;
+
+    /**
+     * Kernel opcional que preenche as colunas de uma grade uniforme de uma só vez.
+     * A implementação SIMD ({@code RCVectorKernel}, em src-vector) depende do módulo
+     * jdk.incubator.vector e só é carregada se estiver presente no classpath.
+     */
+    interface KernelVetorial {
+        void preencher(double R, double C, double V0, double tStart, double step,
+                       double[] tempos, double[] correntes, int n);
+    }
+
+    private static final KernelVetorial KERNEL_VETORIAL = carregarKernelVetorial();
+
+    /** Amostras calculadas entre duas chamadas de {@link Acompanhamento}. */
+    private static final int BLOCO_ACOMPANHAMENTO = 1 << 16;
+
+    private static final Metricas.Histograma TEMPO_CALCULO = Metricas.histograma("rc.calcularCorrente");
+    private static final Metricas.Histograma TEMPO_RAPIDO = Metricas.histograma("rc.calcularCorrenteRapida");
+    private static final Metricas.Histograma TEMPO_VETORIAL = Metricas.histograma("rc.calcularCorrenteVetorial");
+    private static final Metricas.Histograma TEMPO_ADAPTATIVO = Metricas.histograma("rc.calcularCorrenteAdaptativa");
+    private static final Metricas.Contador AMOSTRAS = Metricas.contador("rc.amostras");
+
+    /**
+     * Recebe o andamento de um cálculo longo e decide se ele deve continuar.
+     */
+    @FunctionalInterface
+    public interface Acompanhamento {
+        /**
+         * @param concluidas Amostras já calculadas
+         * @param total      Total de amostras do cálculo
+         * @return false para cancelar o cálculo
+         */
+        boolean continuar(int concluidas, int total);
+    }
+
+    /**
+     * Recebe as amostras (tempo, corrente) à medida que são geradas.
+     */
+    @FunctionalInterface
+    public interface ConsumidorAmostra {
+        void aceitar(double tempo, double corrente);
+    }
+
     /**
      * Representa um ponto da função i(t), contendo o tempo e a corrente correspondente.
      */
@@ -24,6 +79,180 @@ public class RCCircuitCalculator {
         }
     }
 
+    /**
+     * Acesso somente leitura a uma sequência de amostras (tempo, corrente), esteja ela
+     * em memória ({@link Curva}) ou mapeada de um arquivo ({@link RCCurveStore}).
+     */
+    public interface Amostras {
+        int tamanho();
+
+        double tempo(int indice);
+
+        double corrente(int indice);
+
+        default boolean vazia() {
+            return tamanho() == 0;
+        }
+
+        /**
+         * Maior corrente das amostras (1.0 se não houver nenhuma).
+         */
+        default double correnteMaxima() {
+            int n = tamanho();
+            if (n == 0) return 1.0;
+            double max = corrente(0);
+            for (int i = 1; i < n; i++) {
+                max = Math.max(max, corrente(i));
+            }
+            return max;
+        }
+    }
+
+    /**
+     * Curva i(t) armazenada em colunas: um vetor de tempos e outro de correntes.
+     * Evita criar um objeto {@link Ponto} por amostra e pode ser reaproveitada
+     * entre cálculos, já que os vetores só crescem quando falta espaço.
+     * Uma curva congelada ({@link #congelar()}) não aceita mais alterações e pode ser
+     * compartilhada entre threads.
+     */
+    public static class Curva implements Amostras {
+        private double[] tempos;
+        private double[] correntes;
+        private int tamanho;
+        private boolean congelada;
+
+        public Curva() {
+            this(16);
+        }
+
+        public Curva(int capacidadeInicial) {
+            int capacidade = Math.max(capacidadeInicial, 1);
+            this.tempos = new double[capacidade];
+            this.correntes = new double[capacidade];
+        }
+
+        /**
+         * Cria uma curva em colunas a partir de uma lista de pontos.
+         */
+        public static Curva de(List<Ponto> pontos) {
+            Curva curva = new Curva(pontos.size());
+            for (Ponto p : pontos) {
+                curva.adicionar(p.tempo, p.corrente);
+            }
+            return curva;
+        }
+
+        /**
+         * Esvazia a curva mantendo os vetores alocados para reuso.
+         */
+        public void limpar() {
+            verificarAlteravel();
+            tamanho = 0;
+        }
+
+        /**
+         * Torna a curva somente leitura. Depois disso, qualquer tentativa de alterá-la
+         * lança {@link IllegalStateException}; os vetores devolvidos por {@link #tempos()}
+         * e {@link #correntes()} também não devem ser modificados.
+         *
+         * @return A própria curva
+         */
+        public Curva congelar() {
+            congelada = true;
+            return this;
+        }
+
+        public boolean congelada() {
+            return congelada;
+        }
+
+        private void verificarAlteravel() {
+            if (congelada) {
+                throw new IllegalStateException("Curva congelada não pode ser alterada.");
+            }
+        }
+
+        /**
+         * Garante espaço para pelo menos {@code capacidade} amostras.
+         */
+        public void garantirCapacidade(int capacidade) {
+            verificarAlteravel();
+            if (capacidade > tempos.length) {
+                int novaCapacidade = Math.max(capacidade, tempos.length + (tempos.length >> 1));
+                tempos = Arrays.copyOf(tempos, novaCapacidade);
+                correntes = Arrays.copyOf(correntes, novaCapacidade);
+            }
+        }
+
+        public void adicionar(double tempo, double corrente) {
+            verificarAlteravel();
+            if (tamanho == tempos.length) {
+                garantirCapacidade(tamanho + 1);
+            }
+            tempos[tamanho] = tempo;
+            correntes[tamanho] = corrente;
+            tamanho++;
+        }
+
+        @Override
+        public int tamanho() {
+            return tamanho;
+        }
+
+        /**
+         * Define quantas amostras são válidas, para quem preenche os vetores diretamente.
+         */
+        public void definirTamanho(int tamanho) {
+            verificarAlteravel();
+            if (tamanho < 0 || tamanho > tempos.length) {
+                throw new IllegalArgumentException("Tamanho fora da capacidade da curva: " + tamanho);
+            }
+            this.tamanho = tamanho;
+        }
+
+        @Override
+        public boolean vazia() {
+            return tamanho == 0;
+        }
+
+        @Override
+        public double tempo(int indice) {
+            return tempos[indice];
+        }
+
+        @Override
+        public double corrente(int indice) {
+            return correntes[indice];
+        }
+
+        /**
+         * Vetor interno de tempos. Só as primeiras {@link #tamanho()} posições são válidas.
+         */
+        public double[] tempos() {
+            return tempos;
+        }
+
+        /**
+         * Vetor interno de correntes. Só as primeiras {@link #tamanho()} posições são válidas.
+         */
+        public double[] correntes() {
+            return correntes;
+        }
+
+        /**
+         * Maior corrente da curva (1.0 se estiver vazia).
+         */
+        @Override
+        public double correnteMaxima() {
+            if (tamanho == 0) return 1.0;
+            double max = correntes[0];
+            for (int i = 1; i < tamanho; i++) {
+                if (correntes[i] > max) max = correntes[i];
+            }
+            return max;
+        }
+    }
+
     /**
      * Calcula os valores da corrente i(t) = (V₀ / R) * e^(-t / (RC)) em um intervalo de tempo.
      *
@@ -39,6 +268,7 @@ public class RCCircuitCalculator {
     public static List<Ponto> calcularCorrente(double R, double C, double V0,
                                                 double tStart, double tEnd, double step) {
         validarParametros(R, C, tStart, tEnd, step);
+        long inicio = TEMPO_CALCULO.inicio();
 
         List<Ponto> pontos = new ArrayList<>();
         double tempo = tStart;
@@ -49,15 +279,327 @@ public class RCCircuitCalculator {
             tempo += step;
         }
 
+        TEMPO_CALCULO.registrarDesde(inicio);
+        AMOSTRAS.somar(pontos.size());
         return pontos;
     }
 
+    /**
+     * Mesmo cálculo de {@link #calcularCorrente(double, double, double, double, double, double)},
+     * mas grava as amostras em colunas dentro de {@code destino}, sem criar um objeto por ponto.
+     * O conteúdo anterior de {@code destino} é descartado.
+     *
+     * @param destino Curva reaproveitável que recebe o resultado. Se for null, uma nova é criada.
+     * @return A curva preenchida (o próprio {@code destino}, quando informado)
+     * @throws IllegalArgumentException se algum parâmetro for inválido
+     */
+    public static Curva calcularCorrente(double R, double C, double V0,
+                                         double tStart, double tEnd, double step, Curva destino) {
+        validarParametros(R, C, tStart, tEnd, step);
+        long inicio = TEMPO_CALCULO.inicio();
+
+        Curva curva = (destino != null) ? destino : new Curva();
+        curva.limpar();
+        curva.garantirCapacidade(estimarQuantidade(tStart, tEnd, step));
+
+        double tempo = tStart;
+
+        while (tempo <= tEnd + 1e-9) { // tolerância numérica
+            double corrente = (V0 / R) * Math.exp(-tempo / (R * C));
+            curva.adicionar(tempo, corrente);
+            tempo += step;
+        }
+
+        TEMPO_CALCULO.registrarDesde(inicio);
+        AMOSTRAS.somar(curva.tamanho());
+        return curva;
+    }
+
+    /**
+     * Versão rápida do cálculo em colunas para passo uniforme. Em vez de chamar
+     * {@link Math#exp(double)} a cada amostra, usa a recorrência
+     * i(t + step) = i(t) * e^(-step / (RC)), recalculando o valor exato a cada
+     * {@link #INTERVALO_REANCORAGEM} amostras. O tempo é obtido pelo índice
+     * (tStart + k * step), sem acumular erro de soma.
+     *
+     * @param destino Curva reaproveitável que recebe o resultado. Se for null, uma nova é criada.
+     * @return A curva preenchida (o próprio {@code destino}, quando informado)
+     * @throws IllegalArgumentException se algum parâmetro for inválido
+     */
+    public static Curva calcularCorrenteRapida(double R, double C, double V0,
+                                               double tStart, double tEnd, double step, Curva destino) {
+        return calcularCorrenteRapida(R, C, V0, tStart, tEnd, step, destino, null);
+    }
+
+    /**
+     * Igual a {@link #calcularCorrenteRapida(double, double, double, double, double, double, Curva)},
+     * informando o andamento a {@code acompanhamento} a cada bloco de amostras. Se ele pedir o
+     * cancelamento, a curva é esvaziada e uma {@link CancellationException} é lançada.
+     *
+     * @param acompanhamento Recebe o andamento; pode ser null
+     * @throws CancellationException se o cálculo for cancelado
+     */
+    public static Curva calcularCorrenteRapida(double R, double C, double V0, double tStart, double tEnd,
+                                               double step, Curva destino, Acompanhamento acompanhamento) {
+        validarParametros(R, C, tStart, tEnd, step);
+        long medida = TEMPO_RAPIDO.inicio();
+
+        int n = quantidadeAmostras(tStart, tEnd, step);
+        Curva curva = (destino != null) ? destino : new Curva(n);
+        curva.limpar();
+        curva.garantirCapacidade(n);
+
+        for (int inicio = 0; inicio < n; inicio += BLOCO_ACOMPANHAMENTO) {
+            int tamanho = Math.min(BLOCO_ACOMPANHAMENTO, n - inicio);
+            preencherRecorrencia(R, C, V0, tStart, step, curva.tempos(), curva.correntes(), inicio, tamanho);
+            if (acompanhamento != null && !acompanhamento.continuar(inicio + tamanho, n)) {
+                throw new CancellationException("Cálculo da corrente cancelado.");
+            }
+        }
+        curva.definirTamanho(n);
+
+        TEMPO_RAPIDO.registrarDesde(medida);
+        AMOSTRAS.somar(n);
+        return curva;
+    }
+
+    /**
+     * Cálculo exato em colunas avaliado em blocos pelo motor vetorial (Vector API), quando
+     * disponível. Sem o módulo jdk.incubator.vector, usa o laço escalar equivalente.
+     * Em ambos os casos o tempo da amostra k é tStart + k * step.
+     *
+     * @param destino Curva reaproveitável que recebe o resultado. Se for null, uma nova é criada.
+     * @return A curva preenchida (o próprio {@code destino}, quando informado)
+     * @throws IllegalArgumentException se algum parâmetro for inválido
+     * @see #motorVetorialDisponivel()
+     */
+    public static Curva calcularCorrenteVetorial(double R, double C, double V0,
+                                                 double tStart, double tEnd, double step, Curva destino) {
+        validarParametros(R, C, tStart, tEnd, step);
+        long inicio = TEMPO_VETORIAL.inicio();
+
+        int n = quantidadeAmostras(tStart, tEnd, step);
+        Curva curva = (destino != null) ? destino : new Curva(n);
+        curva.garantirCapacidade(n);
+
+        double[] tempos = curva.tempos();
+        double[] correntes = curva.correntes();
+        if (KERNEL_VETORIAL != null) {
+            KERNEL_VETORIAL.preencher(R, C, V0, tStart, step, tempos, correntes, n);
+        } else {
+            double tau = R * C;
+            double i0 = V0 / R;
+            for (int k = 0; k < n; k++) {
+                double tempo = tStart + k * step;
+                tempos[k] = tempo;
+                correntes[k] = i0 * Math.exp(-tempo / tau);
+            }
+        }
+        curva.definirTamanho(n);
+
+        TEMPO_VETORIAL.registrarDesde(inicio);
+        AMOSTRAS.somar(n);
+        return curva;
+    }
+
+    /**
+     * Indica se {@link #calcularCorrenteVetorial} está usando o motor SIMD.
+     */
+    public static boolean motorVetorialDisponivel() {
+        return KERNEL_VETORIAL != null;
+    }
+
+    private static KernelVetorial carregarKernelVetorial() {
+        try {
+            return (KernelVetorial) Class.forName("RCVectorKernel").getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return null; // classe ausente ou módulo jdk.incubator.vector não habilitado
+        }
+    }
+
+    /**
+     * Calcula i(t) escolhendo o passo pela curvatura local da exponencial, em vez de usar
+     * todos os pontos da grade uniforme. Entre duas amostras a curva é desenhada por
+     * interpolação linear, cujo erro em um trecho de largura h é no máximo h² / 8 * |i''|;
+     * como |i''(t)| = |i(t)| / (RC)² decresce com t, o passo é escolhido para que esse
+     * limite fique em {@code tolerancia} vezes a corrente em tStart. Perto de t = 0 o passo
+     * é curto e, a cada constante de tempo, cresce por um fator √e.
+     *
+     * As amostras são um subconjunto da grade uniforme (tStart + k * step, incluindo a
+     * primeira e a última), de modo que o passo nunca fica menor que {@code step}.
+     * Use {@link RelatorioAdaptativo} para comparar a quantidade de pontos com a da grade.
+     *
+     * @param tolerancia Erro máximo da interpolação, relativo à corrente em tStart (ex.: 1e-4).
+     *                   Deve estar entre 0 e 1.
+     * @param destino    Curva reaproveitável que recebe o resultado. Se for null, uma nova é criada.
+     * @return A curva preenchida (o próprio {@code destino}, quando informado)
+     * @throws IllegalArgumentException se algum parâmetro for inválido
+     */
+    public static Curva calcularCorrenteAdaptativa(double R, double C, double V0, double tStart, double tEnd,
+                                                   double step, double tolerancia, Curva destino) {
+        validarParametros(R, C, tStart, tEnd, step);
+        if (!(tolerancia > 0 && tolerancia < 1)) {
+            throw new IllegalArgumentException("Tolerância deve estar entre 0 e 1.");
+        }
+        long inicio = TEMPO_ADAPTATIVO.inicio();
+
+        Curva curva = (destino != null) ? destino : new Curva();
+        curva.limpar();
+
+        double tau = R * C;
+        double i0 = V0 / R;
+        double erroAdmissivel = tolerancia * Math.abs(i0 * Math.exp(-tStart / tau));
+        long ultimo = contarAmostras(tStart, tEnd, step) - 1;
+
+        long k = 0;
+        while (true) {
+            double tempo = tStart + k * step;
+            double corrente = i0 * Math.exp(-tempo / tau);
+            curva.adicionar(tempo, corrente);
+            if (k == ultimo) break;
+
+            double curvatura = Math.abs(corrente) / (tau * tau);
+            double passo = curvatura > 0 ? Math.sqrt(8 * erroAdmissivel / curvatura) : Double.POSITIVE_INFINITY;
+            k += (long) Math.max(1, Math.min(passo / step, ultimo - k));
+        }
+
+        TEMPO_ADAPTATIVO.registrarDesde(inicio);
+        AMOSTRAS.somar(curva.tamanho());
+        return curva;
+    }
+
+    /**
+     * Compara uma curva adaptativa com a grade uniforme de mesmo passo mínimo.
+     */
+    public static class RelatorioAdaptativo {
+        public final long amostrasUniformes;
+        public final int amostrasAdaptativas;
+
+        public RelatorioAdaptativo(Amostras adaptativa, double tStart, double tEnd, double step) {
+            this.amostrasUniformes = contarAmostras(tStart, tEnd, step);
+            this.amostrasAdaptativas = adaptativa.tamanho();
+        }
+
+        /** Amostras que a grade uniforme teria a mais. */
+        public long amostrasEconomizadas() {
+            return amostrasUniformes - amostrasAdaptativas;
+        }
+
+        /** Fração da grade uniforme que deixou de ser calculada (0 a 1). */
+        public double fracaoEconomizada() {
+            return (double) amostrasEconomizadas() / amostrasUniformes;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d de %d amostras (%.2f%% economizadas)",
+                    amostrasAdaptativas, amostrasUniformes, 100 * fracaoEconomizada());
+        }
+    }
+
+    /**
+     * Gera as amostras (tempo, corrente) da grade uniforme e as entrega ao {@code consumidor}
+     * uma a uma, em ordem, sem montar a curva em memória. Usa o mesmo kernel do modo rápido,
+     * em blocos de tamanho fixo, de modo que a memória usada não depende de tEnd / step
+     * e a primeira amostra chega antes de a última ser calculada.
+     *
+     * @param consumidor Destino de cada amostra
+     * @return Quantidade de amostras geradas
+     * @throws IllegalArgumentException se algum parâmetro for inválido
+     */
+    public static long gerarCorrente(double R, double C, double V0,
+                                     double tStart, double tEnd, double step, ConsumidorAmostra consumidor) {
+        validarParametros(R, C, tStart, tEnd, step);
+
+        long n = contarAmostras(tStart, tEnd, step);
+        double[] tempos = new double[BLOCO_GERACAO];
+        double[] correntes = new double[BLOCO_GERACAO];
+
+        for (long inicio = 0; inicio < n; inicio += BLOCO_GERACAO) {
+            int tamanho = (int) Math.min(BLOCO_GERACAO, n - inicio);
+            preencherRecorrencia(R, C, V0, tStart + inicio * step, step, tempos, correntes, 0, tamanho);
+            for (int k = 0; k < tamanho; k++) {
+                consumidor.aceitar(tempos[k], correntes[k]);
+            }
+        }
+
+        return n;
+    }
+
+    /**
+     * Correntes da grade uniforme como um {@link DoubleStream} preguiçoso: cada valor é
+     * calculado com {@link Math#exp(double)} apenas quando consumido. O tempo da amostra
+     * de posição k é tStart + k * step. O fluxo pode ser dividido e usado em paralelo.
+     *
+     * @throws IllegalArgumentException se algum parâmetro for inválido
+     */
+    public static DoubleStream correntes(double R, double C, double V0,
+                                         double tStart, double tEnd, double step) {
+        validarParametros(R, C, tStart, tEnd, step);
+
+        double tau = R * C;
+        double i0 = V0 / R;
+        return LongStream.range(0, contarAmostras(tStart, tEnd, step))
+                .mapToDouble(k -> i0 * Math.exp(-(tStart + k * step) / tau));
+    }
+
+    /**
+     * Preenche {@code n} amostras a partir da posição {@code inicio} usando a recorrência
+     * multiplicativa, com reancoragem periódica na exponencial exata.
+     * A amostra de índice k corresponde ao tempo tStart + (inicio + k) * step.
+     */
+    static void preencherRecorrencia(double R, double C, double V0, double tStart, double step,
+                                     double[] tempos, double[] correntes, int inicio, int n) {
+        double tau = R * C;
+        double i0 = V0 / R;
+        double fator = Math.exp(-step / tau);
+        double corrente = 0;
+
+        for (int k = 0; k < n; k++) {
+            double tempo = tStart + (inicio + k) * step;
+            if (k % INTERVALO_REANCORAGEM == 0) {
+                corrente = i0 * Math.exp(-tempo / tau); // reancoragem
+            } else {
+                corrente *= fator;
+            }
+            tempos[inicio + k] = tempo;
+            correntes[inicio + k] = corrente;
+        }
+    }
+
+    /**
+     * Número de amostras de uma grade uniforme tStart, tStart + step, ..., até tEnd
+     * (com a mesma tolerância numérica do cálculo exato).
+     */
+    static int quantidadeAmostras(double tStart, double tEnd, double step) {
+        long n = contarAmostras(tStart, tEnd, step);
+        if (n > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Intervalo de tempo gera amostras demais para uma única curva.");
+        }
+        return (int) n;
+    }
+
+    /**
+     * Igual a {@link #quantidadeAmostras(double, double, double)}, sem o limite de uma curva em memória.
+     */
+    static long contarAmostras(double tStart, double tEnd, double step) {
+        return (long) Math.floor((tEnd - tStart + 1e-9) / step) + 1;
+    }
+
+    /**
+     * Estimativa do número de amostras entre tStart e tEnd, usada para pré-alocar as colunas.
+     */
+    private static int estimarQuantidade(double tStart, double tEnd, double step) {
+        double n = Math.floor((tEnd - tStart) / step) + 2;
+        return (int) Math.min(n, Integer.MAX_VALUE - 8);
+    }
+
     /**
      * Verifica se os parâmetros fornecidos são válidos.
      *
      * @throws IllegalArgumentException se algum parâmetro for inválido
      */
-    private static void validarParametros(double R, double C, double tStart, double tEnd, double step) {
+    static void validarParametros(double R, double C, double tStart, double tEnd, double step) {
         StringBuilder erros = new StringBuilder();
 
         if (R <= 0) erros.append("Resistência R deve ser maior que zero.\n");
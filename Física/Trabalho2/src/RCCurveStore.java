@@ -0,0 +1,235 @@
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Arquivo de curvas i(t) pré-calculadas, gravado e lido por mapeamento em memória
+ * ({@link FileChannel#map}). Abrir o arquivo lê apenas o cabeçalho; as colunas de cada
+ * curva são mapeadas quando pedidas e carregadas pelo sistema operacional sob demanda,
+ * sem cópia para o heap. As curvas abertas podem ser desenhadas diretamente por
+ * {@link ChartGenerator#exibirGrafico(RCCircuitCalculator.Amostras)}.
+ *
+ * Formato (little-endian):
+ *   cabeçalho:  4 bytes "RCM1", int32 versão (1), int32 quantidade de curvas, int32 reservado
+ *   diretório:  para cada curva, 6 x float64 (R, C, V0, tStart, tEnd, step), int64 amostras,
+ *               int64 posição da coluna de tempos, float64 corrente máxima
+ *   dados:      para cada curva, amostras x float64 de tempos seguidos de amostras x float64 de correntes
+ */
+public class RCCurveStore implements Closeable {
+
+    private static final byte[] ASSINATURA = {'R', 'C', 'M', '1'};
+    private static final int VERSAO = 1;
+    private static final int TAMANHO_CABECALHO = 16;
+    private static final int TAMANHO_ENTRADA = 9 * 8;
+
+    /** Cada coluna é mapeada de uma vez, então não pode passar de 2 GB. */
+    private static final long MAX_AMOSTRAS_POR_CURVA = Integer.MAX_VALUE / Double.BYTES;
+
+    /**
+     * Curva lida do arquivo, com as colunas mapeadas em memória.
+     */
+    public static class CurvaMapeada implements RCCircuitCalculator.Amostras {
+        public final double R, C, V0, tStart, tEnd, step;
+        private final DoubleBuffer tempos;
+        private final DoubleBuffer correntes;
+        private final double correnteMaxima;
+
+        private CurvaMapeada(double[] parametros, DoubleBuffer tempos, DoubleBuffer correntes, double correnteMaxima) {
+            this.R = parametros[0];
+            this.C = parametros[1];
+            this.V0 = parametros[2];
+            this.tStart = parametros[3];
+            this.tEnd = parametros[4];
+            this.step = parametros[5];
+            this.tempos = tempos;
+            this.correntes = correntes;
+            this.correnteMaxima = correnteMaxima;
+        }
+
+        @Override
+        public int tamanho() {
+            return tempos.limit();
+        }
+
+        @Override
+        public double tempo(int indice) {
+            return tempos.get(indice);
+        }
+
+        @Override
+        public double corrente(int indice) {
+            return correntes.get(indice);
+        }
+
+        /**
+         * Valor gravado no diretório, sem percorrer a coluna.
+         */
+        @Override
+        public double correnteMaxima() {
+            return tamanho() == 0 ? 1.0 : correnteMaxima;
+        }
+    }
+
+    private final FileChannel canal;
+    private final double[][] parametros;
+    private final long[] amostras;
+    private final long[] posicoes;
+    private final double[] correntesMaximas;
+    private final CurvaMapeada[] abertas;
+
+    private RCCurveStore(FileChannel canal, double[][] parametros, long[] amostras, long[] posicoes,
+                         double[] correntesMaximas) {
+        this.canal = canal;
+        this.parametros = parametros;
+        this.amostras = amostras;
+        this.posicoes = posicoes;
+        this.correntesMaximas = correntesMaximas;
+        this.abertas = new CurvaMapeada[parametros.length];
+    }
+
+    /**
+     * Calcula as curvas dos casos informados (R, C, V0, tStart, tEnd, step) e grava o arquivo.
+     * Cada curva é gerada em fluxo diretamente na região mapeada do arquivo, sem passar pelo heap.
+     *
+     * @throws IllegalArgumentException se algum parâmetro for inválido
+     */
+    public static void gravar(Path arquivo, List<double[]> casos) throws IOException {
+        int quantidade = casos.size();
+        long[] amostras = new long[quantidade];
+        long[] posicoes = new long[quantidade];
+
+        long posicao = TAMANHO_CABECALHO + (long) quantidade * TAMANHO_ENTRADA;
+        for (int i = 0; i < quantidade; i++) {
+            double[] p = casos.get(i);
+            RCCircuitCalculator.validarParametros(p[0], p[1], p[3], p[4], p[5]);
+            amostras[i] = RCCircuitCalculator.contarAmostras(p[3], p[4], p[5]);
+            if (amostras[i] > MAX_AMOSTRAS_POR_CURVA) {
+                throw new IllegalArgumentException("Caso " + i + ": no máximo " + MAX_AMOSTRAS_POR_CURVA
+                        + " amostras por curva.");
+            }
+            posicoes[i] = posicao;
+            posicao += 2 * amostras[i] * Double.BYTES;
+        }
+
+        try (FileChannel canal = FileChannel.open(arquivo, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            MappedByteBuffer cabecalho = canal.map(FileChannel.MapMode.READ_WRITE, 0, posicoes.length == 0
+                    ? TAMANHO_CABECALHO : posicoes[0]);
+            cabecalho.order(ByteOrder.LITTLE_ENDIAN);
+            cabecalho.put(ASSINATURA).putInt(VERSAO).putInt(quantidade).putInt(0);
+
+            for (int i = 0; i < quantidade; i++) {
+                double[] p = casos.get(i);
+                int bytesColuna = (int) (amostras[i] * Double.BYTES);
+                MappedByteBuffer regiaoTempos = canal.map(FileChannel.MapMode.READ_WRITE, posicoes[i], bytesColuna);
+                MappedByteBuffer regiaoCorrentes = canal.map(FileChannel.MapMode.READ_WRITE,
+                        posicoes[i] + bytesColuna, bytesColuna);
+                DoubleBuffer tempos = regiaoTempos.order(ByteOrder.LITTLE_ENDIAN).asDoubleBuffer();
+                DoubleBuffer correntes = regiaoCorrentes.order(ByteOrder.LITTLE_ENDIAN).asDoubleBuffer();
+
+                double[] maxima = {Double.NEGATIVE_INFINITY};
+                RCCircuitCalculator.gerarCorrente(p[0], p[1], p[2], p[3], p[4], p[5], (t, corrente) -> {
+                    tempos.put(t);
+                    correntes.put(corrente);
+                    if (corrente > maxima[0]) maxima[0] = corrente;
+                });
+                regiaoTempos.force();
+                regiaoCorrentes.force();
+
+                for (int k = 0; k < 6; k++) {
+                    cabecalho.putDouble(p[k]);
+                }
+                cabecalho.putLong(amostras[i]).putLong(posicoes[i]).putDouble(maxima[0]);
+            }
+            cabecalho.force();
+        }
+    }
+
+    /**
+     * Abre um arquivo de curvas lendo só o cabeçalho e o diretório.
+     * As curvas são mapeadas sob demanda por {@link #curva(int)}.
+     */
+    public static RCCurveStore abrir(Path arquivo) throws IOException {
+        FileChannel canal = FileChannel.open(arquivo, StandardOpenOption.READ);
+        try {
+            if (canal.size() < TAMANHO_CABECALHO) {
+                throw new IOException("Arquivo de curvas inválido (muito curto): " + arquivo);
+            }
+            MappedByteBuffer cabecalho = canal.map(FileChannel.MapMode.READ_ONLY, 0, TAMANHO_CABECALHO);
+            cabecalho.order(ByteOrder.LITTLE_ENDIAN);
+            byte[] assinatura = new byte[ASSINATURA.length];
+            cabecalho.get(assinatura);
+            if (!Arrays.equals(assinatura, ASSINATURA) || cabecalho.getInt() != VERSAO) {
+                throw new IOException("Arquivo de curvas inválido ou de versão desconhecida: " + arquivo);
+            }
+            int quantidade = cabecalho.getInt();
+
+            MappedByteBuffer diretorio = canal.map(FileChannel.MapMode.READ_ONLY, TAMANHO_CABECALHO,
+                    (long) quantidade * TAMANHO_ENTRADA);
+            diretorio.order(ByteOrder.LITTLE_ENDIAN);
+
+            double[][] parametros = new double[quantidade][6];
+            long[] amostras = new long[quantidade];
+            long[] posicoes = new long[quantidade];
+            double[] correntesMaximas = new double[quantidade];
+            for (int i = 0; i < quantidade; i++) {
+                for (int k = 0; k < 6; k++) {
+                    parametros[i][k] = diretorio.getDouble();
+                }
+                amostras[i] = diretorio.getLong();
+                posicoes[i] = diretorio.getLong();
+                correntesMaximas[i] = diretorio.getDouble();
+                if (posicoes[i] + 2 * amostras[i] * Double.BYTES > canal.size()) {
+                    throw new IOException("Arquivo de curvas truncado: " + arquivo);
+                }
+            }
+
+            return new RCCurveStore(canal, parametros, amostras, posicoes, correntesMaximas);
+        } catch (IOException | RuntimeException e) {
+            canal.close();
+            throw e;
+        }
+    }
+
+    /** Quantidade de curvas no arquivo. */
+    public int quantidade() {
+        return parametros.length;
+    }
+
+    /**
+     * Parâmetros (R, C, V0, tStart, tEnd, step) da curva {@code indice}, sem mapeá-la.
+     */
+    public double[] parametros(int indice) {
+        return parametros[indice].clone();
+    }
+
+    /**
+     * Mapeia (na primeira chamada) e devolve a curva {@code indice}.
+     */
+    public synchronized CurvaMapeada curva(int indice) throws IOException {
+        if (abertas[indice] == null) {
+            long bytesColuna = amostras[indice] * Double.BYTES;
+            DoubleBuffer tempos = canal.map(FileChannel.MapMode.READ_ONLY, posicoes[indice], bytesColuna)
+                    .order(ByteOrder.LITTLE_ENDIAN).asDoubleBuffer();
+            DoubleBuffer correntes = canal.map(FileChannel.MapMode.READ_ONLY, posicoes[indice] + bytesColuna, bytesColuna)
+                    .order(ByteOrder.LITTLE_ENDIAN).asDoubleBuffer();
+            abertas[indice] = new CurvaMapeada(parametros[indice], tempos, correntes, correntesMaximas[indice]);
+        }
+        return abertas[indice];
+    }
+
+    /**
+     * Fecha o arquivo. Curvas já mapeadas continuam válidas.
+     */
+    @Override
+    public void close() throws IOException {
+        canal.close();
+    }
+}
@@ -0,0 +1,152 @@
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * Varredura de parâmetros (R, C, V₀) de um circuito RC em paralelo.
+ * Cada combinação é percorrida na grade de tempo sem guardar a curva inteira;
+ * apenas um resumo é devolvido.
+ */
+public class RCParameterSweep {
+
+    /**
+     * Resumo da curva i(t) de uma combinação de parâmetros.
+     */
+    public static class Resumo {
+        public final double R;
+        public final double C;
+        public final double V0;
+        /** Corrente de maior módulo na grade (A). */
+        public final double picoCorrente;
+        /** Primeiro tempo em que |i| cai para 1% do valor em tStart (NaN se não ocorrer na grade). */
+        public final double tempoDecaimento1Porcento;
+        /** Carga entregue no intervalo, integral de i(t) pela regra do trapézio (C). */
+        public final double cargaEntregue;
+
+        public Resumo(double R, double C, double V0, double picoCorrente,
+                      double tempoDecaimento1Porcento, double cargaEntregue) {
+            this.R = R;
+            this.C = C;
+            this.V0 = V0;
+            this.picoCorrente = picoCorrente;
+            this.tempoDecaimento1Porcento = tempoDecaimento1Porcento;
+            this.cargaEntregue = cargaEntregue;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("R = %.4gΩ, C = %.4gF, V0 = %.4gV: pico = %.6fA, t(1%%) = %.4fs, Q = %.6fC",
+                    R, C, V0, picoCorrente, tempoDecaimento1Porcento, cargaEntregue);
+        }
+    }
+
+    /**
+     * Gera {@code quantidade} valores igualmente espaçados entre {@code inicio} e {@code fim} (inclusive).
+     */
+    public static double[] faixa(double inicio, double fim, int quantidade) {
+        if (quantidade < 1) {
+            throw new IllegalArgumentException("A faixa deve ter pelo menos um valor.");
+        }
+        double[] valores = new double[quantidade];
+        if (quantidade == 1) {
+            valores[0] = inicio;
+            return valores;
+        }
+        double passo = (fim - inicio) / (quantidade - 1);
+        for (int i = 0; i < quantidade; i++) {
+            valores[i] = inicio + i * passo;
+        }
+        return valores;
+    }
+
+    /**
+     * Resume todas as combinações R × C × V₀ na grade de tempo, usando o pool comum do Java.
+     * O resultado segue a ordem R (mais externo), C, V₀ (mais interno).
+     *
+     * @throws IllegalArgumentException se algum parâmetro for inválido
+     */
+    public static Resumo[] varrer(double[] resistencias, double[] capacitancias, double[] tensoes,
+                                  double tStart, double tEnd, double step) {
+        return varrer(resistencias, capacitancias, tensoes, tStart, tEnd, step, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Igual a {@link #varrer(double[], double[], double[], double, double, double)},
+     * mas executando no {@code pool} informado (útil para controlar o número de núcleos).
+     */
+    public static Resumo[] varrer(double[] resistencias, double[] capacitancias, double[] tensoes,
+                                  double tStart, double tEnd, double step, ForkJoinPool pool) {
+        for (double R : resistencias) {
+            for (double C : capacitancias) {
+                RCCircuitCalculator.validarParametros(R, C, tStart, tEnd, step);
+            }
+        }
+
+        int nC = capacitancias.length;
+        int nV = tensoes.length;
+        int total = resistencias.length * nC * nV;
+        Resumo[] resumos = new Resumo[total];
+
+        Runnable tarefa = () -> IntStream.range(0, total).parallel().forEach(i -> {
+            double R = resistencias[i / (nC * nV)];
+            double C = capacitancias[(i / nV) % nC];
+            double V0 = tensoes[i % nV];
+            resumos[i] = resumir(R, C, V0, tStart, tEnd, step);
+        });
+
+        try {
+            pool.submit(tarefa).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Varredura interrompida.", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Falha na varredura: " + e.getCause().getMessage(), e.getCause());
+        }
+
+        return resumos;
+    }
+
+    /**
+     * Resume uma única combinação consumindo as amostras à medida que são geradas,
+     * com memória constante.
+     */
+    public static Resumo resumir(double R, double C, double V0, double tStart, double tEnd, double step) {
+        Acumulador acumulador = new Acumulador(step);
+        RCCircuitCalculator.gerarCorrente(R, C, V0, tStart, tEnd, step, acumulador);
+        return new Resumo(R, C, V0, acumulador.pico, acumulador.tempoDecaimento, acumulador.carga);
+    }
+
+    /**
+     * Acumula pico, tempo de decaimento a 1% e carga de uma sequência de amostras.
+     */
+    private static class Acumulador implements RCCircuitCalculator.ConsumidorAmostra {
+        private final double step;
+        private boolean primeira = true;
+        private double pico = 0;
+        private double limite = 0;
+        private double tempoDecaimento = Double.NaN;
+        private double carga = 0;
+        private double correnteAnterior = 0;
+
+        Acumulador(double step) {
+            this.step = step;
+        }
+
+        @Override
+        public void aceitar(double tempo, double corrente) {
+            if (primeira) {
+                limite = Math.abs(corrente) * 0.01;
+                primeira = false;
+            } else {
+                carga += 0.5 * (correnteAnterior + corrente) * step;
+            }
+            if (Math.abs(corrente) > Math.abs(pico)) {
+                pico = corrente;
+            }
+            if (Double.isNaN(tempoDecaimento) && Math.abs(corrente) <= limite) {
+                tempoDecaimento = tempo;
+            }
+            correnteAnterior = corrente;
+        }
+    }
+}
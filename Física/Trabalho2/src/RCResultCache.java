@@ -0,0 +1,167 @@
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Cache de curvas i(t) já calculadas, indexado por (R, C, V₀, tStart, tEnd, step).
+ * Limitado pelo total de amostras guardadas; quando o limite é ultrapassado, as curvas
+ * usadas há mais tempo são descartadas (LRU). As curvas guardadas são congeladas e
+ * podem ser lidas ao mesmo tempo por várias threads.
+ */
+public class RCResultCache {
+
+    /**
+     * Parâmetros de um cálculo, usados como chave do cache.
+     */
+    private static final class Chave {
+        private final double R, C, V0, tStart, tEnd, step;
+
+        Chave(double R, double C, double V0, double tStart, double tEnd, double step) {
+            this.R = R;
+            this.C = C;
+            this.V0 = V0;
+            this.tStart = tStart;
+            this.tEnd = tEnd;
+            this.step = step;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Chave)) return false;
+            Chave k = (Chave) o;
+            return Double.compare(R, k.R) == 0 && Double.compare(C, k.C) == 0
+                    && Double.compare(V0, k.V0) == 0 && Double.compare(tStart, k.tStart) == 0
+                    && Double.compare(tEnd, k.tEnd) == 0 && Double.compare(step, k.step) == 0;
+        }
+
+        @Override
+        public int hashCode() {
+            long h = Double.doubleToLongBits(R);
+            h = 31 * h + Double.doubleToLongBits(C);
+            h = 31 * h + Double.doubleToLongBits(V0);
+            h = 31 * h + Double.doubleToLongBits(tStart);
+            h = 31 * h + Double.doubleToLongBits(tEnd);
+            h = 31 * h + Double.doubleToLongBits(step);
+            return (int) (h ^ (h >>> 32));
+        }
+    }
+
+    private final long maxAmostras;
+    private final LinkedHashMap<Chave, RCCircuitCalculator.Curva> curvas = new LinkedHashMap<>(16, 0.75f, true);
+    private long amostrasGuardadas;
+    private long acertos;
+    private long falhas;
+    private long remocoes;
+
+    /**
+     * @param maxAmostras Total máximo de amostras mantidas no cache. Deve ser > 0.
+     */
+    public RCResultCache(long maxAmostras) {
+        if (maxAmostras <= 0) {
+            throw new IllegalArgumentException("O limite de amostras do cache deve ser maior que zero.");
+        }
+        this.maxAmostras = maxAmostras;
+    }
+
+    /**
+     * Devolve a curva guardada para os parâmetros, ou null se não houver.
+     */
+    public synchronized RCCircuitCalculator.Curva buscar(double R, double C, double V0,
+                                                         double tStart, double tEnd, double step) {
+        RCCircuitCalculator.Curva curva = curvas.get(new Chave(R, C, V0, tStart, tEnd, step));
+        if (curva != null) {
+            acertos++;
+        } else {
+            falhas++;
+        }
+        return curva;
+    }
+
+    /**
+     * Guarda uma curva calculada para os parâmetros, congelando-a. Se outra thread já tiver
+     * guardado uma curva para os mesmos parâmetros, essa é mantida e devolvida.
+     * Curvas maiores que o limite do cache não são guardadas.
+     *
+     * @return A curva que fica associada aos parâmetros
+     */
+    public synchronized RCCircuitCalculator.Curva guardar(double R, double C, double V0,
+                                                          double tStart, double tEnd, double step,
+                                                          RCCircuitCalculator.Curva curva) {
+        Chave chave = new Chave(R, C, V0, tStart, tEnd, step);
+        RCCircuitCalculator.Curva existente = curvas.get(chave);
+        if (existente != null) {
+            return existente;
+        }
+
+        curva.congelar();
+        if (curva.tamanho() > maxAmostras) {
+            return curva;
+        }
+
+        curvas.put(chave, curva);
+        amostrasGuardadas += curva.tamanho();
+
+        // Descarta as menos usadas recentemente até voltar ao limite
+        Iterator<Map.Entry<Chave, RCCircuitCalculator.Curva>> it = curvas.entrySet().iterator();
+        while (amostrasGuardadas > maxAmostras && it.hasNext()) {
+            Map.Entry<Chave, RCCircuitCalculator.Curva> antiga = it.next();
+            amostrasGuardadas -= antiga.getValue().tamanho();
+            it.remove();
+            remocoes++;
+        }
+
+        return curva;
+    }
+
+    /**
+     * Devolve a curva do cache ou, se não houver, calcula com
+     * {@link RCCircuitCalculator#calcularCorrente(double, double, double, double, double, double, RCCircuitCalculator.Curva)}
+     * e guarda o resultado. O cálculo é feito fora do bloqueio do cache.
+     *
+     * @return Curva congelada (somente leitura)
+     * @throws IllegalArgumentException se algum parâmetro for inválido
+     */
+    public RCCircuitCalculator.Curva calcularCorrente(double R, double C, double V0,
+                                                      double tStart, double tEnd, double step) {
+        RCCircuitCalculator.Curva curva = buscar(R, C, V0, tStart, tEnd, step);
+        if (curva != null) {
+            return curva;
+        }
+        curva = RCCircuitCalculator.calcularCorrente(R, C, V0, tStart, tEnd, step, null);
+        return guardar(R, C, V0, tStart, tEnd, step, curva);
+    }
+
+    public synchronized long acertos() {
+        return acertos;
+    }
+
+    public synchronized long falhas() {
+        return falhas;
+    }
+
+    public synchronized long remocoes() {
+        return remocoes;
+    }
+
+    /** Número de curvas guardadas. */
+    public synchronized int tamanho() {
+        return curvas.size();
+    }
+
+    /** Total de amostras guardadas em todas as curvas. */
+    public synchronized long amostrasGuardadas() {
+        return amostrasGuardadas;
+    }
+
+    public synchronized void limpar() {
+        curvas.clear();
+        amostrasGuardadas = 0;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return String.format("RCResultCache[curvas = %d, amostras = %d/%d, acertos = %d, falhas = %d, remoções = %d]",
+                curvas.size(), amostrasGuardadas, maxAmostras, acertos, falhas, remocoes);
+    }
+}
@@ -1,5 +1,53 @@
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
 public class Back {
 
+    /** Lançamentos calculados por tarefa no cálculo em lote paralelo. */
+    private static final int BLOCO_LOTE = 1 << 14;
+
+    private static final Metricas.Histograma TEMPO_RESOLVER = Metricas.histograma("back.resolver", 64);
+    private static final Metricas.Histograma TEMPO_LOTE = Metricas.histograma("back.calcularLote");
+    private static final Metricas.Contador LANCAMENTOS = Metricas.contador("back.lancamentos");
+
+    /**
+     * Solução completa de um lançamento vertical, preenchida por {@link #resolver}:
+     * coeficientes de y(t) = a*t² + b*t + c, tempo e altura máximos e tempo total até o
+     * solo (-1 se não atingir). É mutável para poder ser reaproveitada entre cálculos.
+     */
+    public static final class Solucao {
+        public double gravidade, v0, y0;
+        public double a, b, c;
+        public double tMax, yMax, tTotal;
+    }
+
+    /**
+     * Calcula de uma só vez tudo o que as funções abaixo calculam separadamente para um
+     * lançamento, derivando cada grandeza uma única vez e sem criar vetores.
+     *
+     * @param destino Solução reaproveitável que recebe o resultado. Se for null, uma nova é criada.
+     * @return A solução preenchida (o próprio {@code destino}, quando informado)
+     */
+    public static Solucao resolver(double gravidade, double v0, double y0, Solucao destino) {
+        long inicio = TEMPO_RESOLVER.inicio();
+        Solucao s = (destino != null) ? destino : new Solucao();
+        s.gravidade = gravidade;
+        s.v0 = v0;
+        s.y0 = y0;
+        s.a = -gravidade / 2;
+        s.b = v0;
+        s.c = y0;
+        s.tMax = calcularTempoAlturaMax(s.a, s.b);
+        s.yMax = calcularAlturaNoTempo(s.a, s.b, s.c, s.tMax);
+        s.tTotal = calcularTempoTotal(s.a, s.b, s.c);
+        TEMPO_RESOLVER.registrarDesde(inicio);
+        LANCAMENTOS.somar(1);
+        return s;
+    }
+
     /**
      * Retorna os coeficientes a, b, c da equação: y(t) = a*t² + b*t + c
      */
@@ -54,33 +102,113 @@ public class Back {
     }
 
     /**
-     * Retorna o valor da gravidade para um planeta conhecido.
+     * Calcula, para cada lançamento (gravidade, v0, y0) dos vetores de entrada, o tempo até a
+     * altura máxima, a altura máxima e o tempo total, com as mesmas fórmulas das funções acima
+     * (tTotal = -1 quando não há raiz real). Os resultados são gravados nos vetores de saída,
+     * na mesma posição, sem alocar nada por lançamento. A população é dividida em blocos
+     * calculados em paralelo no pool comum do Java.
+     *
+     * @throws IllegalArgumentException se os vetores tiverem tamanhos diferentes
      */
-    public static double gravidadePorPlaneta(String planeta) {
-        switch (planeta.toLowerCase()) {
-            case "lua": return 1.62;
-            case "marte": return 3.71;
-            case "júpiter": return 24.79;
-            case "vênus": return 8.87;
-            case "mercúrio": return 3.7;
-            case "saturno": return 10.44;
-            case "urano": return 8.69;
-            case "netuno": return 11.15;
-            default: return 9.8; // Terra
+    public static void calcularLote(double[] gravidades, double[] v0s, double[] y0s,
+                                    double[] tMax, double[] yMax, double[] tTotal) {
+        calcularLote(gravidades, v0s, y0s, tMax, yMax, tTotal, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Igual a {@link #calcularLote(double[], double[], double[], double[], double[], double[])},
+     * mas executando no {@code pool} informado.
+     */
+    public static void calcularLote(double[] gravidades, double[] v0s, double[] y0s,
+                                    double[] tMax, double[] yMax, double[] tTotal, ForkJoinPool pool) {
+        int n = gravidades.length;
+        if (v0s.length != n || y0s.length != n || tMax.length != n || yMax.length != n || tTotal.length != n) {
+            throw new IllegalArgumentException("Os vetores de entrada e de saída devem ter o mesmo tamanho.");
+        }
+        long medida = TEMPO_LOTE.inicio();
+        if (n <= BLOCO_LOTE) {
+            calcularFaixa(gravidades, v0s, y0s, tMax, yMax, tTotal, 0, n);
+            TEMPO_LOTE.registrarDesde(medida);
+            LANCAMENTOS.somar(n);
+            return;
         }
+
+        int blocos = (n + BLOCO_LOTE - 1) / BLOCO_LOTE;
+        Runnable tarefa = () -> IntStream.range(0, blocos).parallel().forEach(bloco -> {
+            int inicio = bloco * BLOCO_LOTE;
+            calcularFaixa(gravidades, v0s, y0s, tMax, yMax, tTotal, inicio, Math.min(n, inicio + BLOCO_LOTE));
+        });
+
+        try {
+            pool.submit(tarefa).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Cálculo em lote interrompido.", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Falha no cálculo em lote: " + e.getCause().getMessage(), e.getCause());
+        }
+        TEMPO_LOTE.registrarDesde(medida);
+        LANCAMENTOS.somar(n);
+    }
+
+    /**
+     * Calcula os lançamentos das posições {@code inicio} (inclusive) a {@code fim} (exclusive)
+     * na thread atual.
+     */
+    public static void calcularLote(double[] gravidades, double[] v0s, double[] y0s,
+                                    double[] tMax, double[] yMax, double[] tTotal, int inicio, int fim) {
+        long medida = TEMPO_LOTE.inicio();
+        calcularFaixa(gravidades, v0s, y0s, tMax, yMax, tTotal, inicio, fim);
+        TEMPO_LOTE.registrarDesde(medida);
+        LANCAMENTOS.somar(fim - inicio);
+    }
+
+    private static void calcularFaixa(double[] gravidades, double[] v0s, double[] y0s,
+                                      double[] tMax, double[] yMax, double[] tTotal, int inicio, int fim) {
+        for (int i = inicio; i < fim; i++) {
+            double a = -gravidades[i] / 2;
+            double b = v0s[i];
+            double c = y0s[i];
+
+            double t = (a == 0) ? 0 : -b / (2 * a);
+            tMax[i] = t;
+            yMax[i] = a * t * t + b * t + c;
+
+            double delta = b * b - 4 * a * c;
+            if (delta < 0 || a == 0) {
+                tTotal[i] = -1;
+            } else {
+                double raiz = Math.sqrt(delta);
+                tTotal[i] = Math.max((-b + raiz) / (2 * a), (-b - raiz) / (2 * a));
+            }
+        }
+    }
+
+    /**
+     * Retorna o valor da gravidade para um planeta conhecido de {@link RegistroPlanetas#padrao()},
+     * ignorando maiúsculas e acentos. Nomes desconhecidos usam a gravidade de
+     * {@link RegistroPlanetas#corpoPadrao()} (a Terra); para rejeitá-los, use
+     * {@link RegistroPlanetas#exigir(String)}.
+     *
+     * @throws IllegalStateException se o nome for desconhecido e a tabela não tiver o corpo padrão
+     */
+    public static double gravidadePorPlaneta(String planeta) {
+        RegistroPlanetas registro = RegistroPlanetas.padrao();
+        RegistroPlanetas.Corpo corpo = registro.buscar(planeta);
+        return corpo != null ? corpo.gravidade : registro.corpoPadrao().gravidade;
     }
 
     /**
      * Gera uma tabela de tempo x altura (com N pontos entre 0 e tempo final).
+     * As linhas são montadas por {@link TabelaAlturas}, que também grava em arquivos, em CSV e em binário.
      */
     public static void imprimirTabelaDeAlturas(double a, double b, double c, double tFinal, int pontos) {
-        double passo = tFinal / pontos;
         System.out.println("\n🧪 Tabela (tempo x altura):");
         System.out.println("---------------------------");
-        for (int i = 0; i <= pontos; i++) {
-            double t = i * passo;
-            double y = calcularAlturaNoTempo(a, b, c, t);
-            System.out.printf("t = %.2f s → y = %.2f m\n", t, y);
+        try {
+            TabelaAlturas.escrever(a, b, c, tFinal, pontos, TabelaAlturas.Formato.TEXTO, 2, System.out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e); // System.out não lança IOException
         }
     }
 }
@@ -0,0 +1,140 @@
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Cache dos resultados de lançamentos já calculados, indexado por (gravidade, v0, y0).
+ * Guarda no máximo um número fixo de lançamentos e descarta os usados há mais tempo (LRU).
+ * Os resultados são imutáveis e podem ser compartilhados entre threads.
+ */
+public class CacheLancamentos {
+
+    /**
+     * Resultado completo de um lançamento vertical: coeficientes de y(t) = a*t² + b*t + c,
+     * tempo e altura máximos e tempo total até o solo (-1 se não atingir).
+     */
+    public static final class Resultado {
+        public final double gravidade, v0, y0;
+        public final double a, b, c;
+        public final double tMax, yMax, tTotal;
+
+        private Resultado(Back.Solucao solucao) {
+            this.gravidade = solucao.gravidade;
+            this.v0 = solucao.v0;
+            this.y0 = solucao.y0;
+            this.a = solucao.a;
+            this.b = solucao.b;
+            this.c = solucao.c;
+            this.tMax = solucao.tMax;
+            this.yMax = solucao.yMax;
+            this.tTotal = solucao.tTotal;
+        }
+    }
+
+    /**
+     * Parâmetros de um lançamento, usados como chave do cache.
+     */
+    private static final class Chave {
+        private final double gravidade, v0, y0;
+
+        Chave(double gravidade, double v0, double y0) {
+            this.gravidade = gravidade;
+            this.v0 = v0;
+            this.y0 = y0;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Chave)) return false;
+            Chave k = (Chave) o;
+            return Double.compare(gravidade, k.gravidade) == 0 && Double.compare(v0, k.v0) == 0
+                    && Double.compare(y0, k.y0) == 0;
+        }
+
+        @Override
+        public int hashCode() {
+            long h = Double.doubleToLongBits(gravidade);
+            h = 31 * h + Double.doubleToLongBits(v0);
+            h = 31 * h + Double.doubleToLongBits(y0);
+            return (int) (h ^ (h >>> 32));
+        }
+    }
+
+    private final int maxLancamentos;
+    private final LinkedHashMap<Chave, Resultado> resultados;
+    /** Área de cálculo reaproveitada nas falhas (protegida pelo mesmo monitor do mapa). */
+    private final Back.Solucao solucao = new Back.Solucao();
+    private long acertos;
+    private long falhas;
+    private long remocoes;
+
+    /**
+     * @param maxLancamentos Quantidade máxima de lançamentos guardados. Deve ser > 0.
+     */
+    public CacheLancamentos(int maxLancamentos) {
+        if (maxLancamentos <= 0) {
+            throw new IllegalArgumentException("O tamanho do cache deve ser maior que zero.");
+        }
+        this.maxLancamentos = maxLancamentos;
+        this.resultados = new LinkedHashMap<Chave, Resultado>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Chave, Resultado> maisAntigo) {
+                if (size() > CacheLancamentos.this.maxLancamentos) {
+                    remocoes++;
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Devolve o resultado do lançamento no planeta informado, calculando-o só se não estiver no cache.
+     */
+    public Resultado calcular(String planeta, double v0, double y0) {
+        return calcular(Back.gravidadePorPlaneta(planeta), v0, y0);
+    }
+
+    /**
+     * Devolve o resultado do lançamento com a gravidade informada, calculando-o só se não estiver no cache.
+     */
+    public synchronized Resultado calcular(double gravidade, double v0, double y0) {
+        Chave chave = new Chave(gravidade, v0, y0);
+        Resultado resultado = resultados.get(chave);
+        if (resultado != null) {
+            acertos++;
+            return resultado;
+        }
+        falhas++;
+        resultado = new Resultado(Back.resolver(gravidade, v0, y0, solucao));
+        resultados.put(chave, resultado);
+        return resultado;
+    }
+
+    public synchronized long acertos() {
+        return acertos;
+    }
+
+    public synchronized long falhas() {
+        return falhas;
+    }
+
+    public synchronized long remocoes() {
+        return remocoes;
+    }
+
+    /** Número de lançamentos guardados. */
+    public synchronized int tamanho() {
+        return resultados.size();
+    }
+
+    public synchronized void limpar() {
+        resultados.clear();
+    }
+
+    @Override
+    public synchronized String toString() {
+        return String.format("CacheLancamentos[lançamentos = %d/%d, acertos = %d, falhas = %d, remoções = %d]",
+                resultados.size(), maxLancamentos, acertos, falhas, remocoes);
+    }
+}
@@ -6,12 +6,13 @@ import java.text.DecimalFormat;
 public class CalculadoraGUI extends JFrame {
 
     private JTextField campoVelocidade, campoAltura;
-    private JComboBox<String> planetaBox;
+    private JComboBox<RegistroPlanetas.Corpo> planetaBox;
     private JTextArea resultadoArea;
 
-    private static final String[] planetas = {
-        "Terra", "Lua", "Marte", "Júpiter", "Vênus", "Mercúrio", "Saturno", "Urano", "Netuno"
-    };
+    private static final RegistroPlanetas planetas = RegistroPlanetas.padrao();
+
+    // Lançamentos já calculados nesta sessão
+    private static final CacheLancamentos cacheLancamentos = new CacheLancamentos(1024);
 
     public CalculadoraGUI() {
         // Janela principal
@@ -56,7 +57,9 @@ public class CalculadoraGUI extends JFrame {
         // 🌍 ComboBox Planetas
         JLabel labelPlaneta = new JLabel("🌍 Selecione o planeta:");
         labelPlaneta.setFont(new Font("SansSerif", Font.PLAIN, 14));
-        planetaBox = new JComboBox<>(planetas);
+        planetaBox = new JComboBox<>(planetas.corpos().toArray(new RegistroPlanetas.Corpo[0]));
+        RegistroPlanetas.Corpo padrao = planetas.buscar(RegistroPlanetas.PLANETA_PADRAO);
+        if (padrao != null) planetaBox.setSelectedItem(padrao);
         planetaBox.setBackground(branco);
         planetaBox.setFont(new Font("SansSerif", Font.PLAIN, 13));
         planetaBox.setFocusable(false);
@@ -143,7 +146,8 @@ public class CalculadoraGUI extends JFrame {
     private void calcularResultados() {
     try {
         // 🔹 Entrada e validação
-        String planetaSelecionado = (String) planetaBox.getSelectedItem();
+        RegistroPlanetas.Corpo planeta = (RegistroPlanetas.Corpo) planetaBox.getSelectedItem();
+        String planetaSelecionado = planeta.nome;
         String inputVelocidade = campoVelocidade.getText().trim().replace(",", ".");
         String inputAltura = campoAltura.getText().trim().replace(",", ".");
 
@@ -167,12 +171,12 @@ public class CalculadoraGUI extends JFrame {
         }
 
         // 🔹 Cálculo
-        double g = Back.gravidadePorPlaneta(planetaSelecionado);
-        double[] coef = Back.calcularCoeficientes(g, v0, y0);
-        double a = coef[0], b = coef[1], c = coef[2];
-        double tMax = Back.calcularTempoAlturaMax(a, b);
-        double yMax = Back.calcularAlturaMaxima(a, b, c);
-        double tTotal = Back.calcularTempoTotal(a, b, c);
+        double g = planeta.gravidade;
+        CacheLancamentos.Resultado r = cacheLancamentos.calcular(g, v0, y0);
+        double a = r.a, b = r.b, c = r.c;
+        double tMax = r.tMax;
+        double yMax = r.yMax;
+        double tTotal = r.tTotal;
 
         DecimalFormat df = new DecimalFormat("#0.00");
 
@@ -226,6 +230,7 @@ public class CalculadoraGUI extends JFrame {
 
             // Gráfico de Altura vs Tempo
             JFrame frameGrafico = new JFrame("📈 Gráfico da Trajetória");
+            frameGrafico.setDefaultCloseOperation(JFrame.DISPOSE_ON_CLOSE);
             frameGrafico.add(new GraficoParabola(a, b, c, tTotal, planetaSelecionado, g));
             frameGrafico.pack();
             frameGrafico.setLocationRelativeTo(this);
@@ -233,6 +238,7 @@ public class CalculadoraGUI extends JFrame {
 
             // Gráfico de Velocidade vs Tempo
             JFrame frameVelocidade = new JFrame("📉 Velocidade vs Tempo");
+            frameVelocidade.setDefaultCloseOperation(JFrame.DISPOSE_ON_CLOSE);
             frameVelocidade.add(new GraficoVelocidadeTempo(v0, g, tTotal, planetaSelecionado));
             frameVelocidade.pack();
             frameVelocidade.setLocationRelativeTo(this);
@@ -247,6 +253,7 @@ public class CalculadoraGUI extends JFrame {
                 JOptionPane.WARNING_MESSAGE);
 
             JFrame frameGrafico = new JFrame("📈 Gráfico da Trajetória");
+            frameGrafico.setDefaultCloseOperation(JFrame.DISPOSE_ON_CLOSE);
             frameGrafico.add(new GraficoParabola(a, b, c, 2 * tMax, planetaSelecionado, g)); // tTotal inválido → usa 2*tMax como aproximação
             frameGrafico.pack();
             frameGrafico.setLocationRelativeTo(this);
@@ -272,6 +279,7 @@ public class CalculadoraGUI extends JFrame {
 
 
     public static void main(String[] args) {
+        Metricas.publicar("TrabalhoFisica");
         SwingUtilities.invokeLater(() -> {
             CalculadoraGUI gui = new CalculadoraGUI();
             gui.setVisible(true);
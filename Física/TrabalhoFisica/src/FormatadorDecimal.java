@@ -0,0 +1,121 @@
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.text.DecimalFormatSymbols;
+import java.util.Locale;
+
+/**
+ * Escrita rápida de números com casas decimais fixas em um vetor de caracteres, para saídas
+ * com milhões de linhas. O resultado é o mesmo de {@code String.format("%.nf", valor)} (com
+ * ponto decimal), mas sem interpretar formato, sem boxing e sem criar objetos por número no
+ * caso comum: o valor é escalado e arredondado com aritmética inteira. Empates, valores grandes
+ * demais para isso, NaN e infinitos seguem o caminho lento e exato.
+ *
+ * O separador decimal pode ser trocado para reproduzir o printf no idioma do usuário
+ * ({@link #separadorDoIdioma()}); os dígitos são sempre os ASCII.
+ */
+public final class FormatadorDecimal {
+
+    /** Maior quantidade de casas decimais aceita. */
+    public static final int CASAS_MAXIMAS = 9;
+
+    /**
+     * Limite do valor já escalado pelas casas decimais no caminho rápido; abaixo dele o erro do
+     * produto fica bem menor que meia unidade da última casa.
+     */
+    private static final double LIMITE_RAPIDO = 1e12;
+
+    private static final long[] POTENCIAS_DE_DEZ = {
+        1L, 10L, 100L, 1_000L, 10_000L, 100_000L, 1_000_000L, 10_000_000L, 100_000_000L, 1_000_000_000L
+    };
+
+    /**
+     * Quantos caracteres {@link #escrever} pode usar, no máximo, para um número.
+     */
+    public static int tamanhoMaximo(int casas) {
+        // Sinal, até 309 dígitos inteiros (Double.MAX_VALUE no caminho exato), ponto e casas
+        return 1 + 309 + 1 + casas;
+    }
+
+    private FormatadorDecimal() {
+    }
+
+    /**
+     * Separador decimal que {@code String.format} usa sem informar o Locale (o padrão para
+     * formatação), como ',' em pt-BR.
+     */
+    public static char separadorDoIdioma() {
+        return DecimalFormatSymbols.getInstance(Locale.getDefault(Locale.Category.FORMAT)).getDecimalSeparator();
+    }
+
+    /**
+     * Escreve {@code valor} com {@code casas} casas decimais (0 a {@link #CASAS_MAXIMAS}) em
+     * {@code destino} a partir de {@code pos}, com ponto decimal, e devolve a posição seguinte.
+     */
+    public static int escrever(char[] destino, int pos, double valor, int casas) {
+        return escrever(destino, pos, valor, casas, '.');
+    }
+
+    /**
+     * Igual a {@link #escrever(char[], int, double, int)}, com o separador decimal informado.
+     */
+    public static int escrever(char[] destino, int pos, double valor, int casas, char separador) {
+        long escala = POTENCIAS_DE_DEZ[casas];
+        double escalado = Math.abs(valor) * escala;
+        if (!(escalado < LIMITE_RAPIDO)) {
+            return escreverExato(destino, pos, valor, casas, separador);
+        }
+        // Perto de um empate, o produto pode ter caído do lado errado: decide pelo caminho exato
+        double fracao = escalado - Math.floor(escalado);
+        if (Math.abs(fracao - 0.5) <= 4 * Math.ulp(escalado)) {
+            return escreverExato(destino, pos, valor, casas, separador);
+        }
+
+        long inteiro = Math.round(escalado);
+        if (Double.doubleToRawLongBits(valor) < 0) {
+            destino[pos++] = '-';
+        }
+        long parteInteira = inteiro / escala;
+        long parteFracionaria = inteiro % escala;
+
+        // Parte inteira, de trás para frente
+        int inicio = pos;
+        do {
+            destino[pos++] = (char) ('0' + parteInteira % 10);
+            parteInteira /= 10;
+        } while (parteInteira != 0);
+        for (int a = inicio, b = pos - 1; a < b; a++, b--) {
+            char t = destino[a];
+            destino[a] = destino[b];
+            destino[b] = t;
+        }
+
+        if (casas > 0) {
+            destino[pos++] = separador;
+            for (int k = casas - 1; k >= 0; k--) {
+                destino[pos + k] = (char) ('0' + parteFracionaria % 10);
+                parteFracionaria /= 10;
+            }
+            pos += casas;
+        }
+        return pos;
+    }
+
+    /**
+     * Mesmo arredondamento de {@code String.format}: metade para cima sobre os dígitos de
+     * {@link Double#toString}.
+     */
+    private static int escreverExato(char[] destino, int pos, double valor, int casas, char separador) {
+        String texto;
+        if (Double.isNaN(valor) || Double.isInfinite(valor)) {
+            texto = Double.toString(valor);
+        } else {
+            texto = new BigDecimal(Double.toString(Math.abs(valor))).setScale(casas, RoundingMode.HALF_UP)
+                    .toPlainString().replace('.', separador);
+            if (Double.doubleToRawLongBits(valor) < 0) {
+                texto = "-" + texto;
+            }
+        }
+        texto.getChars(0, texto.length(), destino, pos);
+        return pos + texto.length();
+    }
+}
@@ -1,17 +1,48 @@
 import javax.swing.*;
 import java.awt.*;
+import java.awt.image.BufferedImage;
 import java.text.DecimalFormat;
 
+/**
+ * Gráfico animado da trajetória y(t). A parábola é amostrada uma vez em coordenadas de pixel
+ * na criação do painel, e o gráfico é mantido numa imagem persistente: o fundo é desenhado uma
+ * vez e cada quadro só acrescenta os segmentos novos, de modo que o custo por quadro não cresce
+ * com o número de quadros já exibidos.
+ */
 public class GraficoParabola extends JPanel {
 
+    // Área do gráfico (em pixels, fixa)
+    private static final int ORIGEM_X = 60;
+    private static final int ORIGEM_Y = 380;
+    private static final int LARGURA = 520;
+    private static final int ALTURA = 280;
+
+    private static final Color COR_FUNDO = new Color(250, 250, 255);
+    private static final Color COR_TRAJETORIA = new Color(0, 100, 220);
+    private static final Metricas.Pintura PINTURA = Metricas.pintura("GraficoParabola");
+
     private double a, b, c;
     private double tFinal;
     private String planeta;
     private double gravidade;
 
-    private Timer timer;
     private int frameAtual = 0;
     private final int totalFrames = 500;
+    /** Duração da animação, conduzida por {@link RelogioAnimacao}. */
+    private static final double DURACAO_SEGUNDOS = 1.5;
+
+    // Trajetória em pixels (um ponto por quadro) e altura máxima, calculadas uma vez
+    private final int[] xs = new int[totalFrames];
+    private final int[] ys = new int[totalFrames];
+    private final double yMax;
+    private final double escalaTempo;
+    private final double escalaAltura;
+
+    // Imagem persistente e quantos segmentos já foram desenhados nela
+    private BufferedImage buffer;
+    private double escalaBuffer;
+    private int segmentosDesenhados = 0;
+    private boolean alturaMaximaDesenhada = false;
 
     public GraficoParabola(double a, double b, double c, double tFinal, String planeta, double gravidade) {
         this.a = a;
@@ -21,49 +52,83 @@ public class GraficoParabola extends JPanel {
         this.planeta = planeta;
         this.gravidade = gravidade;
         setPreferredSize(new Dimension(650, 450));
+        setBackground(COR_FUNDO);
+
+        yMax = Back.calcularAlturaMaxima(a, b, c);
+        escalaTempo = LARGURA / tFinal;
+        escalaAltura = ALTURA / yMax;
+        for (int px = 0; px < totalFrames; px++) {
+            double t = tFinal * px / totalFrames;
+            double y = a * t * t + b * t + c;
+            xs[px] = ORIGEM_X + (int) (t * escalaTempo);
+            ys[px] = ORIGEM_Y - (int) (y * escalaAltura);
+        }
 
-        timer = new Timer(3, e -> {
-            frameAtual++;
-            if (frameAtual >= totalFrames) {
-                ((Timer) e.getSource()).stop();
-            }
+        RelogioAnimacao.compartilhado().registrar(this, this::avancarAnimacao);
+    }
+
+    /**
+     * Define o quadro atual pelo tempo de animação decorrido. Devolve false no último quadro.
+     */
+    private boolean avancarAnimacao(double segundos) {
+        int quadro = (int) Math.min(totalFrames, segundos / DURACAO_SEGUNDOS * totalFrames);
+        if (quadro != frameAtual) {
+            frameAtual = quadro;
             repaint();
-        });
-        timer.start();
+        }
+        return frameAtual < totalFrames;
     }
 
     @Override
     protected void paintComponent(Graphics g) {
+        long inicio = PINTURA.inicio();
         super.paintComponent(g);
-        setBackground(new Color(250, 250, 255));
         Graphics2D g2 = (Graphics2D) g;
+        int w = getWidth();
+        int h = getHeight();
+
+        // Se o tamanho ou a escala mudarem, refaz o fundo e redesenha os segmentos já exibidos
+        double escala = g2.getTransform().getScaleX();
+        if (buffer == null || escala != escalaBuffer
+                || buffer.getWidth() != (int) Math.ceil(w * escala)
+                || buffer.getHeight() != (int) Math.ceil(h * escala)) {
+            prepararBuffer(w, h, escala);
+        }
 
-        g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        desenharNovosSegmentos();
+        g2.drawImage(buffer, 0, 0, w, h, null);
+        PINTURA.terminar(g, inicio);
+    }
+
+    /**
+     * Cria a imagem persistente com título, moldura, eixos, grade, legenda e rótulos.
+     */
+    private void prepararBuffer(int w, int h, double escala) {
+        buffer = new BufferedImage(
+                Math.max(1, (int) Math.ceil(w * escala)),
+                Math.max(1, (int) Math.ceil(h * escala)),
+                BufferedImage.TYPE_INT_RGB);
+        escalaBuffer = escala;
+        segmentosDesenhados = 0;
+        alturaMaximaDesenhada = false;
+
+        Graphics2D g2 = criarGraficos();
+        g2.setColor(getBackground());
+        g2.fillRect(0, 0, w, h);
 
         // Título
         g2.setFont(new Font("SansSerif", Font.BOLD, 16));
         g2.setColor(new Color(30, 50, 120));
         g2.drawString("Trajetória Parabólica - " + planeta + " (g = " + String.format("%.2f", gravidade) + " m/s²)", 110, 25);
 
-        // Área do gráfico
-        int origemX = 60;
-        int origemY = 380;
-        int largura = 520;
-        int altura = 280;
-
         // Moldura
         g2.setColor(new Color(220, 220, 240));
-        g2.fillRoundRect(origemX - 20, origemY - altura - 20, largura + 40, altura + 40, 20, 20);
+        g2.fillRoundRect(ORIGEM_X - 20, ORIGEM_Y - ALTURA - 20, LARGURA + 40, ALTURA + 40, 20, 20);
 
         // Eixos
         g2.setColor(Color.GRAY);
-        g2.drawLine(origemX, origemY, origemX + largura, origemY); // eixo X
-        g2.drawLine(origemX, origemY, origemX, origemY - altura);  // eixo Y
-
-        // Escalas
-        double escalaTempo = largura / tFinal;
-        double yMaxAltura = Back.calcularAlturaMaxima(a, b, c);
-        double escalaAltura = altura / yMaxAltura;
+        g2.drawLine(ORIGEM_X, ORIGEM_Y, ORIGEM_X + LARGURA, ORIGEM_Y); // eixo X
+        g2.drawLine(ORIGEM_X, ORIGEM_Y, ORIGEM_X, ORIGEM_Y - ALTURA);  // eixo Y
 
         DecimalFormat df = new DecimalFormat("#0.0");
 
@@ -71,66 +136,79 @@ public class GraficoParabola extends JPanel {
         g2.setFont(new Font("SansSerif", Font.PLAIN, 11));
         for (int i = 0; i <= 10; i++) {
             double t = tFinal * i / 10;
-            int x = origemX + (int)(t * escalaTempo);
+            int x = ORIGEM_X + (int)(t * escalaTempo);
             g2.setColor(new Color(200, 200, 200));
-            g2.drawLine(x, origemY, x, origemY - altura);
+            g2.drawLine(x, ORIGEM_Y, x, ORIGEM_Y - ALTURA);
             g2.setColor(Color.BLACK);
-            g2.drawString(df.format(t) + "s", x - 10, origemY + 15);
+            g2.drawString(df.format(t) + "s", x - 10, ORIGEM_Y + 15);
         }
 
         // Rótulos eixo Y
         for (int i = 0; i <= 10; i++) {
-            double y = yMaxAltura * i / 10;
-            int yPix = origemY - (int)(y * escalaAltura);
+            double y = yMax * i / 10;
+            int yPix = ORIGEM_Y - (int)(y * escalaAltura);
             g2.setColor(new Color(220, 220, 220));
-            g2.drawLine(origemX, yPix, origemX + largura, yPix);
+            g2.drawLine(ORIGEM_X, yPix, ORIGEM_X + LARGURA, yPix);
             g2.setColor(Color.BLACK);
-            g2.drawString(df.format(y) + "m", origemX - 35, yPix + 5);
+            g2.drawString(df.format(y) + "m", ORIGEM_X - 35, yPix + 5);
         }
 
         // Legenda
-        g2.setColor(new Color(0, 100, 220));
-        g2.fillRect(origemX + largura - 100, origemY - altura + 20, 10, 10);
+        g2.setColor(COR_TRAJETORIA);
+        g2.fillRect(ORIGEM_X + LARGURA - 100, ORIGEM_Y - ALTURA + 20, 10, 10);
         g2.setColor(Color.BLACK);
-        g2.drawString("Trajetória", origemX + largura - 85, origemY - altura + 29);
-
-        // Traçar parábola animada
-        g2.setColor(new Color(0, 100, 220));
-        for (int px = 0; px < frameAtual - 1; px++) {
-            double t1 = tFinal * px / totalFrames;
-            double t2 = tFinal * (px + 1) / totalFrames;
-            double y1 = a * t1 * t1 + b * t1 + c;
-            double y2 = a * t2 * t2 + b * t2 + c;
-
-            int x1 = origemX + (int)(t1 * escalaTempo);
-            int yP1 = origemY - (int)(y1 * escalaAltura);
-            int x2 = origemX + (int)(t2 * escalaTempo);
-            int yP2 = origemY - (int)(y2 * escalaAltura);
-
-            g2.drawLine(x1, yP1, x2, yP2);
+        g2.drawString("Trajetória", ORIGEM_X + LARGURA - 85, ORIGEM_Y - ALTURA + 29);
+
+        // Rótulo dos eixos
+        g2.setFont(new Font("SansSerif", Font.BOLD, 12));
+        g2.drawString("Tempo (s)", ORIGEM_X + LARGURA - 50, ORIGEM_Y + 35);
+        g2.drawString("Altura (m)", ORIGEM_X - 50, ORIGEM_Y - ALTURA + 10);
+
+        g2.dispose();
+    }
+
+    /**
+     * Acrescenta à imagem os segmentos entre o último desenhado e o quadro atual e,
+     * no fim da animação, o destaque da altura máxima.
+     */
+    private void desenharNovosSegmentos() {
+        int alvo = Math.max(0, Math.min(frameAtual, totalFrames) - 1);
+        boolean destacar = frameAtual >= totalFrames && !alturaMaximaDesenhada;
+        if (segmentosDesenhados >= alvo && !destacar) return;
+
+        Graphics2D g2 = criarGraficos();
+        g2.setColor(COR_TRAJETORIA);
+        for (int px = segmentosDesenhados; px < alvo; px++) {
+            g2.drawLine(xs[px], ys[px], xs[px + 1], ys[px + 1]);
         }
+        segmentosDesenhados = Math.max(segmentosDesenhados, alvo);
 
         // Altura máxima destacada
-        double tMax = -b / (2 * a);
-        double yMax = a * tMax * tMax + b * tMax + c;
-        int xMax = origemX + (int)(tMax * escalaTempo);
-        int yMaxPix = origemY - (int)(yMax * escalaAltura);
+        if (destacar) {
+            double tMax = -b / (2 * a);
+            int xMax = ORIGEM_X + (int)(tMax * escalaTempo);
+            int yMaxPix = ORIGEM_Y - (int)(yMax * escalaAltura);
 
-        if (frameAtual >= totalFrames) {
             g2.setColor(Color.RED);
             g2.fillOval(xMax - 4, yMaxPix - 4, 8, 8);
             g2.setColor(Color.BLACK);
+            g2.setFont(new Font("SansSerif", Font.PLAIN, 11));
             // Ajuste inteligente para evitar sobreposição
-            int labelOffsetX = (xMax > origemX + largura - 100) ? -120 : 10;
-            int labelOffsetY = (yMaxPix < origemY - altura + 30) ? 20 : -10;
-
-            g2.drawString("Altura Máx: " + df.format(yMax) + " m", xMax + labelOffsetX, yMaxPix + labelOffsetY);
+            int labelOffsetX = (xMax > ORIGEM_X + LARGURA - 100) ? -120 : 10;
+            int labelOffsetY = (yMaxPix < ORIGEM_Y - ALTURA + 30) ? 20 : -10;
 
+            g2.drawString("Altura Máx: " + new DecimalFormat("#0.0").format(yMax) + " m",
+                    xMax + labelOffsetX, yMaxPix + labelOffsetY);
+            alturaMaximaDesenhada = true;
         }
 
-        // Rótulo dos eixos
-        g2.setFont(new Font("SansSerif", Font.BOLD, 12));
-        g2.drawString("Tempo (s)", origemX + largura - 50, origemY + 35);
-        g2.drawString("Altura (m)", origemX - 50, origemY - altura + 10);
+        g2.dispose();
+    }
+
+    private Graphics2D criarGraficos() {
+        Graphics2D g2 = buffer.createGraphics();
+        g2.scale(escalaBuffer, escalaBuffer);
+        g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        return g2;
     }
 }
@@ -6,9 +6,11 @@ public class GraficoVelocidadeTempo extends JPanel {
 
     private double v0, gravidade, tempoTotal;
     private String planeta;
-    private Timer timer;
     private int frameAtual = 0;
     private final int totalFrames = 500;
+    /** Duração da animação, conduzida por {@link RelogioAnimacao}. */
+    private static final double DURACAO_SEGUNDOS = 1.5;
+    private static final Metricas.Pintura PINTURA = Metricas.pintura("GraficoVelocidadeTempo");
 
     public GraficoVelocidadeTempo(double v0, double gravidade, double tempoTotal, String planeta) {
         this.v0 = v0;
@@ -18,18 +20,29 @@ public class GraficoVelocidadeTempo extends JPanel {
 
         setPreferredSize(new Dimension(650, 470)); // Aumentado para dar espaço ao título
 
-        timer = new Timer(3, e -> {
-            frameAtual++;
-            if (frameAtual >= totalFrames) {
-                ((Timer) e.getSource()).stop();
-            }
+        RelogioAnimacao.compartilhado().registrar(this, this::avancarAnimacao);
+    }
+
+    /**
+     * Define o quadro atual pelo tempo de animação decorrido. Devolve false no último quadro.
+     */
+    private boolean avancarAnimacao(double segundos) {
+        int quadro = (int) Math.min(totalFrames, segundos / DURACAO_SEGUNDOS * totalFrames);
+        if (quadro != frameAtual) {
+            frameAtual = quadro;
             repaint();
-        });
-        timer.start();
+        }
+        return frameAtual < totalFrames;
     }
 
     @Override
     protected void paintComponent(Graphics g) {
+        long inicio = PINTURA.inicio();
+        desenhar(g);
+        PINTURA.terminar(g, inicio);
+    }
+
+    private void desenhar(Graphics g) {
         super.paintComponent(g);
         setBackground(new Color(248, 250, 255));
         Graphics2D g2 = (Graphics2D) g;
@@ -3,6 +3,7 @@ import java.util.Scanner;
 public class InterfaceTerminal {
 
     private final Scanner sc = new Scanner(System.in);
+    private final CacheLancamentos cacheLancamentos = new CacheLancamentos(1024);
 
     public void iniciar() {
         boolean continuar = true;
@@ -10,18 +11,19 @@ public class InterfaceTerminal {
         while (continuar) {
             limparTela();
             exibirCabecalho();
-            String planeta = lerPlaneta();
-            double gravidade = Back.gravidadePorPlaneta(planeta);
+            RegistroPlanetas.Corpo corpo = lerPlaneta();
+            String planeta = corpo.nome;
+            double gravidade = corpo.gravidade;
 
             double v0 = lerDouble("👉 Digite a velocidade inicial (m/s): ");
             double y0 = lerDouble("👉 Digite a altura inicial (m): ");
 
-            double[] coef = Back.calcularCoeficientes(gravidade, v0, y0);
-            double a = coef[0], b = coef[1], c = coef[2];
+            CacheLancamentos.Resultado r = cacheLancamentos.calcular(gravidade, v0, y0);
+            double a = r.a, b = r.b, c = r.c;
 
-            double tMax = Back.calcularTempoAlturaMax(a, b);
-            double yMax = Back.calcularAlturaMaxima(a, b, c);
-            double tTotal = Back.calcularTempoTotal(a, b, c);
+            double tMax = r.tMax;
+            double yMax = r.yMax;
+            double tTotal = r.tTotal;
 
             exibirResultados(planeta, gravidade, a, b, c, tMax, yMax, tTotal);
 
@@ -40,13 +42,20 @@ public class InterfaceTerminal {
         System.out.println("===============================================");
     }
 
-    private String lerPlaneta() {
+    private RegistroPlanetas.Corpo lerPlaneta() {
+        RegistroPlanetas planetas = RegistroPlanetas.padrao();
         System.out.println("\n🌍 Planetas disponíveis:");
-        System.out.println("Terra, Lua, Marte, Júpiter, Vênus, Mercúrio, Saturno, Urano, Netuno");
+        System.out.println(String.join(", ", planetas.nomes()));
 
-        System.out.print("Digite o planeta desejado (ou pressione Enter para 'Terra'): ");
-        String planeta = sc.nextLine().trim();
-        return planeta.isEmpty() ? "Terra" : planeta;
+        while (true) {
+            System.out.print("Digite o planeta desejado (ou pressione Enter para '"
+                    + RegistroPlanetas.PLANETA_PADRAO + "'): ");
+            String planeta = sc.nextLine().trim();
+            if (planeta.isEmpty()) return planetas.corpoPadrao();
+            RegistroPlanetas.Corpo corpo = planetas.buscar(planeta);
+            if (corpo != null) return corpo;
+            System.out.println("❌ Planeta desconhecido. Escolha um da lista acima.");
+        }
     }
 
     private double lerDouble(String mensagem) {
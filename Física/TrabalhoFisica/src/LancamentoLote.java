@@ -0,0 +1,285 @@
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.FileDescriptor;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Execução em lote da calculadora de lançamento vertical, sem interação e sem interface
+ * gráfica (não carrega AWT/Swing). Lê lançamentos (planeta, v0, y0) de um arquivo ou da
+ * entrada padrão, calcula-os em blocos com {@link Back#calcularLote} e grava os resultados
+ * em CSV ou JSON por um escritor com buffer, sem guardar a entrada inteira na memória.
+ *
+ * Uso:
+ *   java -cp bin LancamentoLote [--formato csv|json] [--casas n] [--entrada arquivo] [--saida arquivo]
+ *
+ * Cada linha de entrada tem "planeta v0 y0", separados por espaço, vírgula ou ponto e vírgula,
+ * com ponto decimal. O planeta é buscado em {@link RegistroPlanetas#padrao()} (sem diferenciar
+ * maiúsculas nem acentos). Linhas vazias e iniciadas por # são ignoradas.
+ * Sem --entrada, lê da entrada padrão; sem --saida, grava na saída padrão.
+ * Os números saem com todos os dígitos de {@link Double#toString}. Com --casas n (0 a 9), saem
+ * arredondados para n casas decimais como em printf ({@link FormatadorDecimal}), o que é bem
+ * mais rápido para milhões de linhas.
+ *
+ * Formato CSV: cabeçalho "planeta,gravidade,v0,y0,tempoAlturaMax,alturaMax,tempoTotal" e uma
+ * linha por lançamento, na ordem da entrada. Formato JSON: um vetor com um objeto por
+ * lançamento, com os mesmos campos. Como em {@link Back#calcularTempoTotal}, tempoTotal é -1
+ * quando o objeto não atinge o solo.
+ */
+public class LancamentoLote {
+
+    /** Lançamentos lidos e calculados de cada vez. */
+    private static final int BLOCO = 1 << 14;
+    private static final int TAMANHO_BUFFER = 1 << 20;
+    private static final Pattern SEPARADOR = Pattern.compile("[\\s,;]+");
+    private static final String USO =
+            "Uso: LancamentoLote [--formato csv|json] [--casas n] [--entrada arquivo] [--saida arquivo]";
+
+    public static void main(String[] args) {
+        Metricas.publicar("TrabalhoFisica");
+        try {
+            System.exit(executar(args));
+        } catch (IllegalArgumentException e) {
+            System.err.println("Erro: " + e.getMessage());
+            System.err.println(USO);
+            System.exit(2);
+        } catch (IOException e) {
+            System.err.println("Erro de E/S: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Interpreta os argumentos, processa toda a entrada e devolve o código de saída.
+     */
+    static int executar(String[] args) throws IOException {
+        String formato = "csv";
+        String entrada = null;
+        String saida = null;
+        int casas = -1;
+
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--formato":
+                    formato = valorDaOpcao(args, ++i, "--formato");
+                    break;
+                case "--casas":
+                    String valor = valorDaOpcao(args, ++i, "--casas");
+                    try {
+                        casas = Integer.parseInt(valor);
+                    } catch (NumberFormatException e) {
+                        casas = -1;
+                    }
+                    if (casas < 0 || casas > FormatadorDecimal.CASAS_MAXIMAS) {
+                        throw new IllegalArgumentException("--casas deve ser um inteiro de 0 a " + FormatadorDecimal.CASAS_MAXIMAS + ".");
+                    }
+                    break;
+                case "--entrada":
+                    entrada = valorDaOpcao(args, ++i, "--entrada");
+                    break;
+                case "--saida":
+                    saida = valorDaOpcao(args, ++i, "--saida");
+                    break;
+                default:
+                    throw new IllegalArgumentException("Argumento desconhecido: " + args[i] + ".");
+            }
+        }
+        if (!formato.equals("csv") && !formato.equals("json")) {
+            throw new IllegalArgumentException("Formato desconhecido: " + formato + " (use csv ou json).");
+        }
+
+        try (BufferedReader leitor = abrirEntrada(entrada);
+             Writer escritor = abrirSaida(saida)) {
+            processar(leitor, escritor, formato.equals("json"), casas, RegistroPlanetas.padrao());
+        }
+        return 0;
+    }
+
+    private static String valorDaOpcao(String[] args, int indice, String opcao) {
+        if (indice >= args.length) {
+            throw new IllegalArgumentException("Falta o valor de " + opcao + ".");
+        }
+        return args[indice];
+    }
+
+    private static BufferedReader abrirEntrada(String entrada) throws IOException {
+        if (entrada == null) {
+            return new BufferedReader(new InputStreamReader(new FileInputStream(FileDescriptor.in),
+                    StandardCharsets.UTF_8), TAMANHO_BUFFER);
+        }
+        return new BufferedReader(new InputStreamReader(Files.newInputStream(Paths.get(entrada)),
+                StandardCharsets.UTF_8), TAMANHO_BUFFER);
+    }
+
+    private static Writer abrirSaida(String saida) throws IOException {
+        if (saida == null) {
+            return new BufferedWriter(new OutputStreamWriter(new FileOutputStream(FileDescriptor.out),
+                    StandardCharsets.UTF_8), TAMANHO_BUFFER);
+        }
+        return new BufferedWriter(new OutputStreamWriter(Files.newOutputStream(Paths.get(saida)),
+                StandardCharsets.UTF_8), TAMANHO_BUFFER);
+    }
+
+    /**
+     * Lê todos os lançamentos de {@code leitor} e grava os resultados em {@code escritor}.
+     * A entrada é acumulada em blocos de {@link #BLOCO} linhas; cada bloco é calculado de uma
+     * vez e gravado antes de o próximo ser lido.
+     *
+     * @param casas Casas decimais dos números, ou -1 para a forma completa de {@link Double#toString}
+     * @throws IllegalArgumentException na primeira linha inválida ou com planeta desconhecido
+     */
+    static void processar(BufferedReader leitor, Writer escritor, boolean json, int casas,
+                          RegistroPlanetas planetas) throws IOException {
+        int[] ids = new int[BLOCO];
+        double[] gravidades = new double[BLOCO];
+        double[] v0s = new double[BLOCO];
+        double[] y0s = new double[BLOCO];
+        double[] tMax = new double[BLOCO];
+        double[] yMax = new double[BLOCO];
+        double[] tTotal = new double[BLOCO];
+
+        // Os nomes são escritos já prontos para o formato escolhido, uma vez por planeta
+        char[][] nomes = new char[planetas.quantidade()][];
+        int maiorNome = 0;
+        for (int id = 0; id < nomes.length; id++) {
+            String nome = planetas.corpo(id).nome;
+            nomes[id] = (json ? "{\"planeta\":\"" + escaparJson(nome) + "\",\"gravidade\":"
+                              : escaparCsv(nome) + ",").toCharArray();
+            maiorNome = Math.max(maiorNome, nomes[id].length);
+        }
+        // O texto digitado costuma se repetir; evita normalizar o mesmo nome a cada linha
+        Map<String, RegistroPlanetas.Corpo> digitados = new HashMap<>();
+        // Cada linha de saída é montada aqui e entregue ao escritor de uma vez
+        // (nome + 6 números + nomes dos campos JSON)
+        int maiorNumero = Math.max(25, casas < 0 ? 0 : FormatadorDecimal.tamanhoMaximo(casas));
+        char[] saida = new char[maiorNome + 6 * maiorNumero + 128];
+
+        escritor.write(json ? "[" : "planeta,gravidade,v0,y0,tempoAlturaMax,alturaMax,tempoTotal\n");
+        boolean primeiro = true;
+        long numeroLinha = 0;
+        String linha;
+        int n = 0;
+        do {
+            linha = leitor.readLine();
+            if (linha != null) {
+                numeroLinha++;
+                linha = linha.trim();
+                if (linha.isEmpty() || linha.startsWith("#")) continue;
+
+                String[] campos = SEPARADOR.split(linha);
+                if (campos.length != 3) {
+                    throw new IllegalArgumentException("linha " + numeroLinha
+                            + ": esperados 3 valores (planeta v0 y0), encontrados " + campos.length + ".");
+                }
+                RegistroPlanetas.Corpo corpo = digitados.get(campos[0]);
+                if (corpo == null) {
+                    corpo = planetas.buscar(campos[0]);
+                    if (corpo == null) {
+                        throw new IllegalArgumentException("linha " + numeroLinha
+                                + ": planeta desconhecido \"" + campos[0] + "\".");
+                    }
+                    digitados.put(campos[0], corpo);
+                }
+                ids[n] = corpo.id;
+                v0s[n] = converterNumero(campos[1], numeroLinha);
+                y0s[n] = converterNumero(campos[2], numeroLinha);
+                n++;
+            }
+
+            if (n == BLOCO || (linha == null && n > 0)) {
+                planetas.gravidades(ids, gravidades);
+                Back.calcularLote(gravidades, v0s, y0s, tMax, yMax, tTotal, 0, n);
+                for (int i = 0; i < n; i++) {
+                    int p = 0;
+                    if (json) {
+                        if (!primeiro) saida[p++] = ',';
+                        saida[p++] = '\n';
+                        primeiro = false;
+                    }
+                    char[] nome = nomes[ids[i]];
+                    System.arraycopy(nome, 0, saida, p, nome.length);
+                    p += nome.length;
+                    p = escreverNumero(saida, p, gravidades[i], casas);
+                    p = separar(saida, p, json ? ",\"v0\":" : ",");
+                    p = escreverNumero(saida, p, v0s[i], casas);
+                    p = separar(saida, p, json ? ",\"y0\":" : ",");
+                    p = escreverNumero(saida, p, y0s[i], casas);
+                    p = separar(saida, p, json ? ",\"tempoAlturaMax\":" : ",");
+                    p = escreverNumero(saida, p, tMax[i], casas);
+                    p = separar(saida, p, json ? ",\"alturaMax\":" : ",");
+                    p = escreverNumero(saida, p, yMax[i], casas);
+                    p = separar(saida, p, json ? ",\"tempoTotal\":" : ",");
+                    p = escreverNumero(saida, p, tTotal[i], casas);
+                    saida[p++] = json ? '}' : '\n';
+                    escritor.write(saida, 0, p);
+                }
+                n = 0;
+            }
+        } while (linha != null);
+        if (json) {
+            escritor.write(primeiro ? "]\n" : "\n]\n");
+        }
+    }
+
+    private static int separar(char[] destino, int pos, String texto) {
+        texto.getChars(0, texto.length(), destino, pos);
+        return pos + texto.length();
+    }
+
+    /**
+     * Escreve {@code valor} em {@code destino} a partir de {@code pos} e devolve a posição seguinte:
+     * com {@code casas} >= 0, pelo {@link FormatadorDecimal}; com -1, por {@link Double#toString}.
+     */
+    private static int escreverNumero(char[] destino, int pos, double valor, int casas) {
+        if (casas >= 0) {
+            return FormatadorDecimal.escrever(destino, pos, valor, casas);
+        }
+        String texto = Double.toString(valor);
+        texto.getChars(0, texto.length(), destino, pos);
+        return pos + texto.length();
+    }
+
+    private static double converterNumero(String campo, long numeroLinha) {
+        try {
+            double valor = Double.parseDouble(campo);
+            if (!Double.isFinite(valor)) {
+                throw new NumberFormatException();
+            }
+            return valor;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("linha " + numeroLinha + ": valor inválido \"" + campo + "\".");
+        }
+    }
+
+    private static String escaparCsv(String texto) {
+        if (texto.indexOf(',') < 0 && texto.indexOf('"') < 0) {
+            return texto;
+        }
+        return "\"" + texto.replace("\"", "\"\"") + "\"";
+    }
+
+    private static String escaparJson(String texto) {
+        StringBuilder sb = new StringBuilder(texto.length());
+        for (int i = 0; i < texto.length(); i++) {
+            char ch = texto.charAt(i);
+            if (ch == '"' || ch == '\\') {
+                sb.append('\\').append(ch);
+            } else if (ch < 0x20) {
+                sb.append(String.format("\\u%04x", (int) ch));
+            } else {
+                sb.append(ch);
+            }
+        }
+        return sb.toString();
+    }
+}
@@ -1,5 +1,6 @@
 public class Main {
     public static void main(String[] args) {
+        Metricas.publicar("TrabalhoFisica");
         InterfaceTerminal app = new InterfaceTerminal();
         app.iniciar();
     }
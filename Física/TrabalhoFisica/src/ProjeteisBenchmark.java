@@ -0,0 +1,114 @@
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Conferências e medições simples do lançamento de projéteis.
+ * Executar com: java -cp bin ProjeteisBenchmark [projéteis]
+ */
+public class ProjeteisBenchmark {
+
+    public static void main(String[] args) {
+        int quantidade = args.length > 0 ? Integer.parseInt(args[0]) : 10_000;
+
+        System.out.println("Projéteis por simulação: " + quantidade);
+        compararSemArrasto();
+        conferirArrastoForte();
+        medirVazao(quantidade);
+    }
+
+    /**
+     * Confere {@link SimuladorProjeteis} contra a solução fechada de {@link Back} em lançamentos
+     * verticais sem arrasto, onde as duas têm de coincidir: tempo de voo, altura máxima e
+     * instante da altura máxima, com RK4 e com Dormand–Prince.
+     */
+    private static void compararSemArrasto() {
+        double[] gravidades = {1.62, 3.71, 9.8, 24.79};
+        double[] velocidades = {0.5, 5, 20, 80, 300};
+        double[] alturas = {0, 1, 50, 2000};
+        int n = gravidades.length * velocidades.length * alturas.length;
+
+        SimuladorProjeteis simulador = new SimuladorProjeteis(n);
+        Back.Solucao[] exatas = new Back.Solucao[n];
+        int k = 0;
+        for (double g : gravidades) {
+            for (double v0 : velocidades) {
+                for (double y0 : alturas) {
+                    simulador.definir(k, v0, 90, y0, g, 0, 0);
+                    exatas[k++] = Back.resolver(g, v0, y0, null);
+                }
+            }
+        }
+
+        System.out.println("\n== Simulador sem arrasto x Back: " + n + " lançamentos verticais ==");
+        simulador.simularRK4(1e-3, 1e4);
+        imprimirErros("RK4 (dt = 1e-3 s):          ", simulador, exatas);
+        long aceitos = simulador.simularAdaptativo(1e-10, 1e4);
+        imprimirErros("Dormand–Prince (tol 1e-10): ", simulador, exatas);
+        System.out.printf("Dormand–Prince: %d passos (%d rejeitados)%n", aceitos, simulador.passosRejeitados());
+    }
+
+    /**
+     * Arrasto forte (k = 100 e k = 10 a 1000 m/s): o primeiro passo adaptativo dá erro NaN e tem
+     * de ser rejeitado, e o RK4 com dt = 1 ms fica instável a 1000 m/s. Nenhum dos dois pode
+     * registrar pouso a partir de um estado estourado: ou o resultado é físico (queda final na
+     * velocidade terminal √(g/k)), ou o projétil fica como não pousado (-1, NaN).
+     */
+    private static void conferirArrastoForte() {
+        System.out.println("\n== Arrasto forte (lançamento a 45° de 10 m) ==");
+        SimuladorProjeteis simulador = new SimuladorProjeteis(1);
+        for (double[] caso : new double[][]{{100, 1000}, {10, 100}, {10, 1000}}) {
+            simulador.definir(0, caso[1], 45, 10, 9.8, caso[0], 0);
+            simulador.simularRK4(1e-3, 1e4);
+            double vooRk4 = simulador.tempoVoo(0), alcanceRk4 = simulador.alcance(0);
+            simulador.simularAdaptativo(1e-8, 1e4);
+            System.out.printf("k = %3.0f, v0 = %4.0f m/s: RK4 voo %8.3f s, alcance %7.3f m; "
+                            + "Dormand–Prince voo %8.3f s, alcance %7.3f m (%d rejeitados)%n",
+                    caso[0], caso[1], vooRk4, alcanceRk4, simulador.tempoVoo(0), simulador.alcance(0),
+                    simulador.passosRejeitados());
+        }
+    }
+
+    private static void imprimirErros(String nome, SimuladorProjeteis simulador, Back.Solucao[] exatas) {
+        double erroVoo = 0, erroAltura = 0, erroApice = 0;
+        for (int k = 0; k < exatas.length; k++) {
+            Back.Solucao s = exatas[k];
+            erroVoo = Math.max(erroVoo, Math.abs(simulador.tempoVoo(k) - s.tTotal) / s.tTotal);
+            erroAltura = Math.max(erroAltura, Math.abs(simulador.alturaMaxima(k) - s.yMax) / s.yMax);
+            erroApice = Math.max(erroApice, Math.abs(simulador.tempoAlturaMaxima(k) - s.tMax) / s.tTotal);
+        }
+        System.out.printf("%s erro relativo máximo: tempo de voo %.2e, altura máxima %.2e, instante do ápice %.2e%n",
+                nome, erroVoo, erroAltura, erroApice);
+    }
+
+    /**
+     * Vazão em passos de projétil por segundo, com arrasto e vento, para os dois integradores
+     * e para um e todos os núcleos.
+     */
+    private static void medirVazao(int quantidade) {
+        SimuladorProjeteis simulador = new SimuladorProjeteis(quantidade);
+        double arrasto = SimuladorProjeteis.coeficienteArrasto(1.225, 0.47, 0.0042, 0.145);
+        for (int k = 0; k < quantidade; k++) {
+            simulador.definir(k, 10 + k % 90, 15 + k % 70, k % 10, 9.8, arrasto, -3 + k % 7);
+        }
+
+        System.out.println("\n== Vazão com arrasto e vento ==");
+        ForkJoinPool umNucleo = new ForkJoinPool(1);
+        try {
+            ForkJoinPool todos = ForkJoinPool.commonPool();
+            ForkJoinPool[] pools = todos.getParallelism() > 1
+                    ? new ForkJoinPool[]{umNucleo, todos} : new ForkJoinPool[]{umNucleo};
+            for (ForkJoinPool pool : pools) {
+                String nucleos = pool.getParallelism() + (pool.getParallelism() == 1 ? " núcleo: " : " núcleos:");
+                simulador.simularRK4(1e-3, 60, pool); // aquecimento
+                simulador.simularRK4(1e-3, 60, pool);
+                System.out.printf("RK4 (dt = 1e-3 s),          %s %8.1f M passos/s%n",
+                        nucleos, simulador.passosPorSegundo() / 1e6);
+                simulador.simularAdaptativo(1e-8, 60, pool); // aquecimento
+                simulador.simularAdaptativo(1e-8, 60, pool);
+                System.out.printf("Dormand–Prince (tol 1e-8),  %s %8.1f M passos/s (%d rejeitados)%n",
+                        nucleos, simulador.passosPorSegundo() / 1e6, simulador.passosRejeitados());
+            }
+        } finally {
+            umNucleo.shutdown();
+        }
+    }
+}
@@ -0,0 +1,252 @@
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * Tabela de corpos celestes (planetas e a Lua) com gravidade e dados extras para simulações.
+ * Cada corpo recebe um identificador inteiro (a posição na tabela), de modo que código em lote
+ * pode obter a gravidade por {@link #gravidade(int)} sem nenhum trabalho com texto.
+ * A busca por nome ignora maiúsculas, acentos e espaços nas pontas ("jupiter" = "Júpiter");
+ * os nomes da tabela são normalizados uma vez, ao montar a tabela, e cada grafia procurada é
+ * normalizada só na primeira busca (as seguintes saem de um mapa de grafias já vistas).
+ *
+ * Formato do arquivo de dados (UTF-8, uma linha por corpo, campos separados por ponto e vírgula,
+ * ponto decimal; linhas vazias e iniciadas por # são ignoradas):
+ *   nome;gravidade (m/s²);raio (m);densidade da atmosfera na superfície (kg/m³)
+ *
+ * A tabela padrão é a embutida abaixo ou, se a propriedade de sistema {@code planetas} apontar
+ * para um arquivo, a lida dele.
+ */
+public class RegistroPlanetas {
+
+    /**
+     * Um corpo da tabela. {@code id} é a posição na tabela que o contém.
+     */
+    public static final class Corpo {
+        public final int id;
+        public final String nome;
+        /** Aceleração da gravidade na superfície (m/s²). */
+        public final double gravidade;
+        /** Raio médio (m). */
+        public final double raio;
+        /** Densidade da atmosfera na superfície (kg/m³); 0 se não houver. */
+        public final double densidadeAtmosfera;
+
+        Corpo(int id, String nome, double gravidade, double raio, double densidadeAtmosfera) {
+            this.id = id;
+            this.nome = nome;
+            this.gravidade = gravidade;
+            this.raio = raio;
+            this.densidadeAtmosfera = densidadeAtmosfera;
+        }
+
+        @Override
+        public String toString() {
+            return nome;
+        }
+    }
+
+    /** Corpo usado quando nenhum planeta é informado (ou o informado é desconhecido). */
+    public static final String PLANETA_PADRAO = "Terra";
+
+    /** Tabela embutida, no mesmo formato do arquivo de dados. */
+    private static final String DADOS_PADRAO = String.join("\n",
+            "# nome;gravidade;raio;densidadeAtmosfera",
+            "Terra;9.8;6.371e6;1.225",
+            "Lua;1.62;1.7374e6;0",
+            "Marte;3.71;3.3895e6;0.020",
+            "Júpiter;24.79;6.9911e7;0.16",
+            "Vênus;8.87;6.0518e6;65",
+            "Mercúrio;3.7;2.4397e6;0",
+            "Saturno;10.44;5.8232e7;0.19",
+            "Urano;8.69;2.5362e7;0.42",
+            "Netuno;11.15;2.4622e7;0.45");
+
+    private final Corpo[] corpos;
+    private final double[] gravidades;
+    private final Map<String, Corpo> porNome;
+
+    /** Marcas combinantes (acentos) deixadas pela decomposição NFD. */
+    private static final Pattern MARCAS = Pattern.compile("\\p{M}+");
+    /** Grafias guardadas em {@link #grafias}; acima disso, as novas são normalizadas a cada busca. */
+    private static final int LIMITE_GRAFIAS = 4096;
+    /** Marca, em {@link #grafias}, uma grafia que não corresponde a nenhum corpo. */
+    private static final Corpo DESCONHECIDO = new Corpo(-1, "", 0, 0, 0);
+    /** Grafias já procuradas (exatamente como recebidas) e o corpo correspondente. */
+    private final Map<String, Corpo> grafias = new ConcurrentHashMap<>();
+
+    private RegistroPlanetas(List<Corpo> corpos) {
+        if (corpos.isEmpty()) {
+            throw new IllegalArgumentException("A tabela de planetas está vazia.");
+        }
+        this.corpos = corpos.toArray(new Corpo[0]);
+        this.gravidades = new double[this.corpos.length];
+        this.porNome = new HashMap<>();
+        for (Corpo corpo : this.corpos) {
+            gravidades[corpo.id] = corpo.gravidade;
+            if (porNome.put(normalizar(corpo.nome), corpo) != null) {
+                throw new IllegalArgumentException("Planeta repetido na tabela: " + corpo.nome);
+            }
+        }
+        for (Corpo corpo : this.corpos) {
+            grafias.put(corpo.nome, corpo);
+        }
+    }
+
+    private static final class Padrao {
+        static final RegistroPlanetas INSTANCIA = criarPadrao();
+    }
+
+    /** Tabela usada pela calculadora (carregada na primeira chamada). */
+    public static RegistroPlanetas padrao() {
+        return Padrao.INSTANCIA;
+    }
+
+    private static RegistroPlanetas criarPadrao() {
+        String arquivo = System.getProperty("planetas");
+        if (arquivo == null) {
+            return interpretar(Arrays.asList(DADOS_PADRAO.split("\n")), "tabela embutida");
+        }
+        try {
+            return carregar(Paths.get(arquivo));
+        } catch (IOException e) {
+            throw new IllegalStateException("Não foi possível ler o arquivo de planetas " + arquivo, e);
+        }
+    }
+
+    /**
+     * Lê uma tabela de um arquivo de dados (formato na descrição da classe).
+     *
+     * @throws IllegalArgumentException se alguma linha for inválida
+     */
+    public static RegistroPlanetas carregar(Path arquivo) throws IOException {
+        return interpretar(Files.readAllLines(arquivo, StandardCharsets.UTF_8), arquivo.toString());
+    }
+
+    private static RegistroPlanetas interpretar(List<String> linhas, String origem) {
+        List<Corpo> corpos = new ArrayList<>();
+        for (int i = 0; i < linhas.size(); i++) {
+            String linha = linhas.get(i).trim();
+            if (linha.isEmpty() || linha.startsWith("#")) continue;
+            String[] campos = linha.split(";");
+            if (campos.length != 4) {
+                throw new IllegalArgumentException(origem + ":" + (i + 1)
+                        + ": esperados 4 campos (nome;gravidade;raio;densidadeAtmosfera).");
+            }
+            try {
+                double gravidade = Double.parseDouble(campos[1].trim());
+                if (!(gravidade > 0)) {
+                    throw new IllegalArgumentException(origem + ":" + (i + 1) + ": a gravidade deve ser maior que zero.");
+                }
+                corpos.add(new Corpo(corpos.size(), campos[0].trim(), gravidade,
+                        Double.parseDouble(campos[2].trim()), Double.parseDouble(campos[3].trim())));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException(origem + ":" + (i + 1) + ": valor numérico inválido.");
+            }
+        }
+        return new RegistroPlanetas(corpos);
+    }
+
+    /**
+     * Forma usada na busca: sem espaços nas pontas, sem acentos e em minúsculas.
+     */
+    static String normalizar(String nome) {
+        String semAcentos = MARCAS.matcher(Normalizer.normalize(nome.trim(), Normalizer.Form.NFD)).replaceAll("");
+        return semAcentos.toLowerCase(Locale.ROOT);
+    }
+
+    /** Quantidade de corpos; os identificadores vão de 0 a quantidade() - 1. */
+    public int quantidade() {
+        return corpos.length;
+    }
+
+    public Corpo corpo(int id) {
+        return corpos[id];
+    }
+
+    /** Gravidade do corpo {@code id} (m/s²), sem busca por nome. */
+    public double gravidade(int id) {
+        return gravidades[id];
+    }
+
+    /**
+     * Preenche {@code destino[i]} com a gravidade do corpo {@code ids[i]}, para cálculos em lote.
+     */
+    public void gravidades(int[] ids, double[] destino) {
+        for (int i = 0; i < ids.length; i++) {
+            destino[i] = gravidades[ids[i]];
+        }
+    }
+
+    /** Todos os corpos, na ordem da tabela. */
+    public List<Corpo> corpos() {
+        return Collections.unmodifiableList(Arrays.asList(corpos));
+    }
+
+    /** Nomes dos corpos, na ordem da tabela. */
+    public String[] nomes() {
+        String[] nomes = new String[corpos.length];
+        for (int i = 0; i < corpos.length; i++) {
+            nomes[i] = corpos[i].nome;
+        }
+        return nomes;
+    }
+
+    /**
+     * Corpo com o nome informado (ignorando maiúsculas e acentos), ou null se não houver.
+     */
+    public Corpo buscar(String nome) {
+        if (nome == null) return null;
+        Corpo corpo = grafias.get(nome);
+        if (corpo == null) {
+            // Nomes sem acento ("marte", "MARTE") não precisam da decomposição NFD
+            corpo = porNome.get(nome);
+            if (corpo == null) corpo = porNome.get(nome.toLowerCase(Locale.ROOT));
+            if (corpo == null) corpo = porNome.getOrDefault(normalizar(nome), DESCONHECIDO);
+            if (grafias.size() < LIMITE_GRAFIAS) {
+                grafias.put(nome, corpo);
+            }
+        }
+        return corpo == DESCONHECIDO ? null : corpo;
+    }
+
+    /**
+     * Corpo {@link #PLANETA_PADRAO}, procurado pelo nome (não depende da posição na tabela).
+     *
+     * @throws IllegalStateException se a tabela não tiver o corpo padrão
+     */
+    public Corpo corpoPadrao() {
+        Corpo corpo = buscar(PLANETA_PADRAO);
+        if (corpo == null) {
+            throw new IllegalStateException("A tabela de planetas não tem o corpo padrão " + PLANETA_PADRAO
+                    + ". Disponíveis: " + String.join(", ", nomes()) + ".");
+        }
+        return corpo;
+    }
+
+    /**
+     * Igual a {@link #buscar(String)}, mas sem aceitar nomes desconhecidos.
+     *
+     * @throws IllegalArgumentException se o nome não estiver na tabela
+     */
+    public Corpo exigir(String nome) {
+        Corpo corpo = buscar(nome);
+        if (corpo == null) {
+            throw new IllegalArgumentException("Planeta desconhecido: " + nome
+                    + ". Disponíveis: " + String.join(", ", nomes()) + ".");
+        }
+        return corpo;
+    }
+}
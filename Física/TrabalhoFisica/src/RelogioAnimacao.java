@@ -0,0 +1,149 @@
+import javax.swing.*;
+import java.awt.*;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Relógio único que conduz as animações de todos os gráficos abertos. Um só
+ * {@link javax.swing.Timer}, limitado a {@link #QUADROS_POR_SEGUNDO}, avança cada animação
+ * pelo tempo decorrido (e não pela contagem de disparos), então a duração não depende da
+ * carga da máquina e o número de eventos na EDT não cresce com o número de janelas.
+ *
+ * Animações cujo componente não está visível (janela oculta ou minimizada) ficam pausadas:
+ * o tempo delas não avança até voltarem a aparecer. O timer para quando não há animações.
+ * O atraso de cada disparo vai para o histograma "relogio.atraso" de {@link Metricas}.
+ * Deve ser usado apenas na EDT.
+ */
+public final class RelogioAnimacao {
+
+    public static final int QUADROS_POR_SEGUNDO = 60;
+
+    /**
+     * Animação conduzida pelo relógio.
+     */
+    @FunctionalInterface
+    public interface Animacao {
+        /**
+         * @param segundos Tempo de animação decorrido desde o registro, sem contar as pausas
+         * @return false quando a animação terminou e pode ser removida do relógio
+         */
+        boolean avancar(double segundos);
+    }
+
+    private static final RelogioAnimacao COMPARTILHADO = new RelogioAnimacao(QUADROS_POR_SEGUNDO);
+
+    private static final class Registro {
+        final Component componente;
+        final Animacao animacao;
+        long decorridoNs;
+        boolean exibido;
+
+        Registro(Component componente, Animacao animacao) {
+            this.componente = componente;
+            this.animacao = animacao;
+        }
+    }
+
+    private final long periodoNs;
+    private final Timer timer;
+    private final List<Registro> registros = new ArrayList<>();
+    private long ultimoQuadro;
+    private long quadrosExibidos;
+    private long quadrosPerdidos;
+    private final Metricas.Cadencia cadencia;
+
+    RelogioAnimacao(int quadrosPorSegundo) {
+        this.periodoNs = 1_000_000_000L / quadrosPorSegundo;
+        this.timer = new Timer(1000 / quadrosPorSegundo, e -> quadro());
+        this.timer.setCoalesce(true);
+        this.cadencia = Metricas.cadencia("relogio.atraso", periodoNs);
+    }
+
+    /** Relógio usado pelos gráficos da calculadora. */
+    public static RelogioAnimacao compartilhado() {
+        return COMPARTILHADO;
+    }
+
+    /**
+     * Passa a conduzir {@code animacao}, desenhada em {@code componente}. A animação é
+     * removida quando terminar ou quando a janela do componente for descartada.
+     */
+    public void registrar(Component componente, Animacao animacao) {
+        registros.add(new Registro(componente, animacao));
+        if (!timer.isRunning()) {
+            ultimoQuadro = System.nanoTime();
+            cadencia.reiniciar();
+            timer.start();
+        }
+    }
+
+    /** Quantidade de animações em andamento (incluindo as pausadas). */
+    public int animacoesAtivas() {
+        return registros.size();
+    }
+
+    /** Quadros efetivamente processados. */
+    public long quadrosExibidos() {
+        return quadrosExibidos;
+    }
+
+    /**
+     * Quadros que deveriam ter ocorrido mas foram pulados porque a EDT estava ocupada.
+     * As animações não atrasam por isso, só ficam menos suaves.
+     */
+    public long quadrosPerdidos() {
+        return quadrosPerdidos;
+    }
+
+    private void quadro() {
+        long agora = System.nanoTime();
+        long intervalo = agora - ultimoQuadro;
+        ultimoQuadro = agora;
+        cadencia.disparo(agora);
+
+        boolean algumVisivel = false;
+        Iterator<Registro> it = registros.iterator();
+        while (it.hasNext()) {
+            Registro r = it.next();
+            if (!visivel(r.componente)) {
+                // Janela descartada depois de ter aparecido: a animação não volta mais
+                if (r.exibido && !r.componente.isDisplayable()) {
+                    it.remove();
+                }
+                continue;
+            }
+            // O intervalo até o primeiro quadro visível não conta, para a animação começar do zero
+            if (r.exibido) {
+                r.decorridoNs += intervalo;
+            }
+            r.exibido = true;
+            algumVisivel = true;
+            if (!r.animacao.avancar(r.decorridoNs / 1e9)) {
+                it.remove();
+            }
+        }
+
+        if (algumVisivel) {
+            quadrosExibidos++;
+            if (intervalo > periodoNs + periodoNs / 2) {
+                quadrosPerdidos += intervalo / periodoNs - 1;
+            }
+        }
+        if (registros.isEmpty()) {
+            timer.stop();
+        }
+    }
+
+    private static boolean visivel(Component componente) {
+        if (!componente.isShowing()) return false;
+        Window janela = SwingUtilities.getWindowAncestor(componente);
+        return !(janela instanceof Frame) || (((Frame) janela).getExtendedState() & Frame.ICONIFIED) == 0;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("RelogioAnimacao[%d fps, animações = %d, quadros = %d, perdidos = %d]",
+                1_000_000_000L / periodoNs, registros.size(), quadrosExibidos, quadrosPerdidos);
+    }
+}
@@ -0,0 +1,554 @@
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.IntStream;
+
+/**
+ * Simulação numérica de muitos projéteis ao mesmo tempo, em duas dimensões, com arrasto
+ * quadrático do ar e vento horizontal. Vai além da parábola fechada de {@link Back}:
+ *
+ *   dx/dt = vx,  dy/dt = vy
+ *   dvx/dt = -k |v - w| (vx - w)
+ *   dvy/dt = -g - k |v - w| vy
+ *
+ * onde w é o vento (só horizontal) e k = ρ Cd A / (2m) é o coeficiente de arrasto por massa
+ * ({@link #coeficienteArrasto}; ρ pode vir de {@link RegistroPlanetas.Corpo#densidadeAtmosfera}). Com k = 0 e lançamento vertical, os resultados coincidem com
+ * {@link Back#calcularTempoTotal}, {@link Back#calcularAlturaMaxima} e {@link Back#calcularTempoAlturaMax}.
+ *
+ * As condições de lançamento e os resultados ficam em vetores (um por grandeza, indexados pelo
+ * projétil). Os projéteis são divididos em blocos calculados em paralelo; dentro de um bloco o
+ * passo fixo avança todos juntos, e o passo adaptativo avança cada projétil com o próprio passo.
+ * Cada projétil é simulado até tocar o solo (y = 0) ou até o tempo limite.
+ */
+public class SimuladorProjeteis {
+
+    /** Projéteis calculados por tarefa. */
+    private static final int BLOCO = 256;
+
+    /** Iterações de Newton para localizar o ápice e o pouso dentro de um passo, quando há arrasto. */
+    private static final int REFINAMENTOS_POUSO = 3;
+
+    // Dormand–Prince 5(4), mesmos coeficientes de CircuitTransientSolver no Trabalho2
+    private static final double[][] DP_A = {
+            {},
+            {1.0 / 5},
+            {3.0 / 40, 9.0 / 40},
+            {44.0 / 45, -56.0 / 15, 32.0 / 9},
+            {19372.0 / 6561, -25360.0 / 2187, 64448.0 / 6561, -212.0 / 729},
+            {9017.0 / 3168, -355.0 / 33, 46732.0 / 5247, 49.0 / 176, -5103.0 / 18656},
+            {35.0 / 384, 0, 500.0 / 1113, 125.0 / 192, -2187.0 / 6784, 11.0 / 84},
+    };
+    private static final double[] DP_E = {
+            71.0 / 57600, 0, -71.0 / 16695, 71.0 / 1920, -17253.0 / 339200, 22.0 / 525, -1.0 / 40};
+
+    private final int quantidade;
+
+    // Condições de lançamento
+    private final double[] y0, vx0, vy0;
+    private final double[] gravidades, arrastos, ventos;
+
+    // Resultados (tempo de voo e alcance -1 / NaN se não tocar o solo até o tempo limite)
+    private final double[] tempoVoo, alcance, alturaMaxima, tempoAlturaMaxima;
+
+    private long passosRejeitados;
+    private long ultimosPassos;
+    private long ultimaDuracaoNs;
+
+    public SimuladorProjeteis(int quantidade) {
+        if (quantidade < 1) {
+            throw new IllegalArgumentException("A simulação deve ter pelo menos um projétil.");
+        }
+        this.quantidade = quantidade;
+        this.y0 = new double[quantidade];
+        this.vx0 = new double[quantidade];
+        this.vy0 = new double[quantidade];
+        this.gravidades = new double[quantidade];
+        this.arrastos = new double[quantidade];
+        this.ventos = new double[quantidade];
+        this.tempoVoo = new double[quantidade];
+        this.alcance = new double[quantidade];
+        this.alturaMaxima = new double[quantidade];
+        this.tempoAlturaMaxima = new double[quantidade];
+    }
+
+    /**
+     * k = ρ Cd A / (2m), em 1/m.
+     *
+     * @param densidadeAr Densidade do ar (kg/m³)
+     * @param cd          Coeficiente de arrasto (adimensional; ~0,47 para uma esfera)
+     * @param area        Área frontal (m²)
+     * @param massa       Massa do projétil (kg)
+     */
+    public static double coeficienteArrasto(double densidadeAr, double cd, double area, double massa) {
+        if (massa <= 0) {
+            throw new IllegalArgumentException("A massa deve ser maior que zero.");
+        }
+        return densidadeAr * cd * area / (2 * massa);
+    }
+
+    /**
+     * Define o lançamento do projétil {@code k}, saindo de x = 0.
+     *
+     * @param v0          Velocidade inicial (m/s)
+     * @param anguloGraus Ângulo com a horizontal (90 = vertical)
+     * @param y0          Altura inicial (m)
+     * @param gravidade   Gravidade (m/s²), deve ser > 0
+     * @param arrasto     Coeficiente k de {@link #coeficienteArrasto} (1/m); 0 = sem ar
+     * @param vento       Velocidade do vento na horizontal (m/s)
+     */
+    public void definir(int k, double v0, double anguloGraus, double y0, double gravidade,
+                        double arrasto, double vento) {
+        if (gravidade <= 0) {
+            throw new IllegalArgumentException("A gravidade deve ser maior que zero.");
+        }
+        if (arrasto < 0) {
+            throw new IllegalArgumentException("O coeficiente de arrasto não pode ser negativo.");
+        }
+        double angulo = Math.toRadians(anguloGraus);
+        this.y0[k] = y0;
+        // Lançamento vertical exato (cos 90° não é zero em ponto flutuante)
+        this.vx0[k] = (anguloGraus == 90) ? 0 : v0 * Math.cos(angulo);
+        this.vy0[k] = (anguloGraus == 90) ? v0 : v0 * Math.sin(angulo);
+        this.gravidades[k] = gravidade;
+        this.arrastos[k] = arrasto;
+        this.ventos[k] = vento;
+    }
+
+    /**
+     * Igual a {@link #definir(int, double, double, double, double, double, double)}, com a
+     * gravidade do planeta informado ({@link RegistroPlanetas#padrao()}).
+     *
+     * @throws IllegalArgumentException se o planeta não estiver na tabela
+     */
+    public void definir(int k, double v0, double anguloGraus, double y0, String planeta,
+                        double arrasto, double vento) {
+        definir(k, v0, anguloGraus, y0, RegistroPlanetas.padrao().exigir(planeta).gravidade, arrasto, vento);
+    }
+
+    public int quantidade() {
+        return quantidade;
+    }
+
+    /**
+     * Tempo até tocar o solo (s), ou -1 se não tocar até o tempo limite ou se a simulação do
+     * projétil for abandonada por instabilidade (passo grande demais para o arrasto).
+     */
+    public double tempoVoo(int k) {
+        return tempoVoo[k];
+    }
+
+    /** Posição horizontal ao tocar o solo (m), ou NaN se não tocar (ver {@link #tempoVoo}). */
+    public double alcance(int k) {
+        return alcance[k];
+    }
+
+    /** Maior altura atingida (m); é a altura inicial se o projétil não subir. */
+    public double alturaMaxima(int k) {
+        return alturaMaxima[k];
+    }
+
+    /** Instante da maior altura (s). */
+    public double tempoAlturaMaxima(int k) {
+        return tempoAlturaMaxima[k];
+    }
+
+    /**
+     * Vazão da última simulação: passos de projétil (aceitos) por segundo de relógio,
+     * somando todos os núcleos usados.
+     */
+    public double passosPorSegundo() {
+        return ultimaDuracaoNs == 0 ? 0 : ultimosPassos * 1e9 / ultimaDuracaoNs;
+    }
+
+    /** Tentativas de passo descartadas pela última simulação adaptativa. */
+    public long passosRejeitados() {
+        return passosRejeitados;
+    }
+
+    /**
+     * Simula todos os projéteis com Runge–Kutta de 4ª ordem e passo fixo {@code dt},
+     * usando o pool comum do Java.
+     *
+     * @return Passos de projétil simulados (soma dos passos de todos os projéteis)
+     */
+    public long simularRK4(double dt, double tLimite) {
+        return simularRK4(dt, tLimite, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Igual a {@link #simularRK4(double, double)}, executando no {@code pool} informado.
+     */
+    public long simularRK4(double dt, double tLimite, ForkJoinPool pool) {
+        validar(dt > 0, "O passo deve ser maior que zero.");
+        validar(tLimite > 0, "O tempo limite deve ser maior que zero.");
+        LongAdder passos = new LongAdder();
+        long inicio = System.nanoTime();
+        executar(pool, bloco -> passos.add(simularBlocoRK4(bloco, dt, tLimite)));
+        passosRejeitados = 0;
+        return registrarVazao(passos.sum(), inicio);
+    }
+
+    /**
+     * Simula todos os projéteis com Dormand–Prince 5(4), cada um com o próprio passo,
+     * mantendo o erro estimado de posição (m) e velocidade (m/s) abaixo de
+     * {@code tolerancia * (1 + |valor|)} por passo.
+     *
+     * @return Passos aceitos de projétil (as tentativas descartadas ficam em {@link #passosRejeitados()})
+     */
+    public long simularAdaptativo(double tolerancia, double tLimite) {
+        return simularAdaptativo(tolerancia, tLimite, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Igual a {@link #simularAdaptativo(double, double)}, executando no {@code pool} informado.
+     */
+    public long simularAdaptativo(double tolerancia, double tLimite, ForkJoinPool pool) {
+        validar(tolerancia > 0, "A tolerância deve ser maior que zero.");
+        validar(tLimite > 0, "O tempo limite deve ser maior que zero.");
+        LongAdder aceitos = new LongAdder();
+        LongAdder rejeitados = new LongAdder();
+        long inicio = System.nanoTime();
+        executar(pool, bloco -> {
+            long[] contagem = simularBlocoAdaptativo(bloco, tolerancia, tLimite);
+            aceitos.add(contagem[0]);
+            rejeitados.add(contagem[1]);
+        });
+        passosRejeitados = rejeitados.sum();
+        return registrarVazao(aceitos.sum(), inicio);
+    }
+
+    private long registrarVazao(long passos, long inicioNs) {
+        ultimosPassos = passos;
+        ultimaDuracaoNs = System.nanoTime() - inicioNs;
+        return passos;
+    }
+
+    private interface TarefaBloco {
+        void executar(int bloco);
+    }
+
+    private void executar(ForkJoinPool pool, TarefaBloco tarefa) {
+        int blocos = (quantidade + BLOCO - 1) / BLOCO;
+        if (blocos == 1) {
+            tarefa.executar(0);
+            return;
+        }
+        try {
+            pool.submit(() -> IntStream.range(0, blocos).parallel().forEach(tarefa::executar)).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Simulação interrompida.", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Falha na simulação: " + e.getCause().getMessage(), e.getCause());
+        }
+    }
+
+    /**
+     * Avança juntos, passo a passo, todos os projéteis do bloco que ainda estão no ar.
+     */
+    private long simularBlocoRK4(int bloco, double dt, double tLimite) {
+        int inicio = bloco * BLOCO;
+        int fim = Math.min(quantidade, inicio + BLOCO);
+        int n = fim - inicio;
+
+        // Estado do bloco em vetores
+        double[] x = new double[n], y = new double[n], vx = new double[n], vy = new double[n];
+        boolean[] noAr = new boolean[n];
+        double[] s = new double[4], novo = new double[4];
+        int noArRestantes = n;
+        for (int i = 0; i < n; i++) {
+            int k = inicio + i;
+            y[i] = y0[k];
+            vx[i] = vx0[k];
+            vy[i] = vy0[k];
+            noAr[i] = true;
+            iniciarResultados(k);
+        }
+
+        long passos = 0;
+        for (long p = 0; noArRestantes > 0; p++) {
+            double t = p * dt;
+            if (t >= tLimite) break;
+            double h = Math.min(dt, tLimite - t);
+            for (int i = 0; i < n; i++) {
+                if (!noAr[i]) continue;
+                int k = inicio + i;
+                s[0] = x[i];
+                s[1] = y[i];
+                s[2] = vx[i];
+                s[3] = vy[i];
+                passoRK4(s, h, gravidades[k], arrastos[k], ventos[k], novo);
+                passos++;
+                if (registrarPasso(k, t, h, s, novo, true, 0)) {
+                    noAr[i] = false;
+                    noArRestantes--;
+                }
+                x[i] = novo[0];
+                y[i] = novo[1];
+                vx[i] = novo[2];
+                vy[i] = novo[3];
+            }
+        }
+        return passos;
+    }
+
+    /**
+     * Avança cada projétil do bloco até o solo com o próprio passo adaptativo.
+     *
+     * @return {aceitos, rejeitados}
+     */
+    private long[] simularBlocoAdaptativo(int bloco, double tolerancia, double tLimite) {
+        int inicio = bloco * BLOCO;
+        int fim = Math.min(quantidade, inicio + BLOCO);
+        double[] s = new double[4], novo = new double[4];
+        double[][] etapas = new double[DP_A.length][4];
+        long aceitos = 0, rejeitados = 0;
+
+        for (int k = inicio; k < fim; k++) {
+            iniciarResultados(k);
+            s[0] = 0;
+            s[1] = y0[k];
+            s[2] = vx0[k];
+            s[3] = vy0[k];
+            double g = gravidades[k], arrasto = arrastos[k], vento = ventos[k];
+            double velocidade = Math.hypot(vx0[k], vy0[k]);
+            double t = 0;
+            double h = Math.min(tLimite, (velocidade + Math.sqrt(2 * g * Math.abs(y0[k])) + 1) / g) / 20;
+            boolean primeiraValida = false;
+
+            while (t < tLimite) {
+                h = Math.min(h, tLimite - t);
+                // Passo pequeno demais para avançar o tempo: o projétil fica como não pousado
+                if (h <= Math.ulp(t)) break;
+                double erro = passoDP(s, h, g, arrasto, vento, novo, etapas, primeiraValida, tolerancia);
+                primeiraValida = true;
+                // Erro NaN ou infinito (estado estourou no passo): rejeita e reduz ao máximo
+                double fator = erro == 0 ? 5
+                        : erro <= Double.MAX_VALUE ? Math.min(5, Math.max(0.2, 0.9 * Math.pow(erro, -0.2)))
+                        : 0.2;
+                if (!(erro <= 1)) {
+                    rejeitados++;
+                    h *= fator;
+                    continue;
+                }
+                aceitos++;
+                boolean terminou = registrarPasso(k, t, h, s, novo, false, tolerancia);
+                if (terminou) break;
+                System.arraycopy(novo, 0, s, 0, 4);
+                // FSAL: a última etapa foi avaliada em novo, então é a primeira do próximo passo
+                double[] primeira = etapas[0];
+                etapas[0] = etapas[DP_A.length - 1];
+                etapas[DP_A.length - 1] = primeira;
+                t += h;
+                h *= fator;
+            }
+        }
+        return new long[]{aceitos, rejeitados};
+    }
+
+    private void iniciarResultados(int k) {
+        tempoVoo[k] = -1;
+        alcance[k] = Double.NaN;
+        alturaMaxima[k] = y0[k];
+        tempoAlturaMaxima[k] = 0;
+    }
+
+    /**
+     * Atualiza altura máxima e pouso do projétil {@code k} com o passo de {@code antes} para
+     * {@code depois}, de t a t + h. Os instantes do ápice (vy = 0) e do pouso (y = 0) são
+     * estimados pela parábola com a aceleração do início do passo, que é exata sem arrasto.
+     * Com arrasto, a estimativa é refinada por Newton, refazendo o passo com o integrador
+     * em uso ({@code rk4} ou Dormand–Prince).
+     *
+     * Um passo instável ({@link #passoEstavel}) não registra nada e encerra o projétil, que
+     * fica como não pousado.
+     *
+     * @return true se a simulação do projétil terminou neste passo (tocou o solo ou ficou instável)
+     */
+    private boolean registrarPasso(int k, double t, double h, double[] antes, double[] depois,
+                                   boolean rk4, double tolerancia) {
+        if (!passoEstavel(antes, depois, h, gravidades[k], ventos[k])) return true;
+        double vyAntes = antes[3];
+        boolean apice = vyAntes > 0 && depois[3] <= 0;
+        if (!apice && depois[1] >= 0) return false;
+
+        double g = gravidades[k], arrasto = arrastos[k], vento = ventos[k];
+        double ax = aceleracaoX(antes[2], vyAntes, arrasto, vento);
+        double ay = aceleracaoY(antes[2], vyAntes, g, arrasto, vento);
+        double[] teste = arrasto != 0 ? new double[4] : null;
+
+        // Altura máxima: vy passa de positiva para não positiva dentro do passo
+        if (apice && ay < 0) {
+            double tau = Math.min(h, -vyAntes / ay);
+            double yApice = antes[1] + vyAntes * tau + 0.5 * ay * tau * tau;
+            if (teste != null) {
+                tau = refinar(k, antes, tau, h, 3, rk4, tolerancia, teste);
+                yApice = teste[1];
+            }
+            if (yApice > alturaMaxima[k]) {
+                alturaMaxima[k] = yApice;
+                tempoAlturaMaxima[k] = t + tau;
+            }
+        }
+
+        if (depois[1] >= 0) return false;
+
+        double tau = raizPositiva(antes[1], vyAntes, ay, h);
+        double x = antes[0] + antes[2] * tau + 0.5 * ax * tau * tau;
+        if (teste != null) {
+            tau = refinar(k, antes, tau, h, 1, rk4, tolerancia, teste);
+            x = teste[0];
+        }
+        tempoVoo[k] = t + tau;
+        alcance[k] = x;
+        return true;
+    }
+
+    /**
+     * O arrasto só reduz a velocidade em relação ao ar, então em um passo ela cresce no máximo
+     * g h. Um passo que a aumenta mais que isso (ou que chega a NaN ou infinito) é instabilidade
+     * numérica do integrador, não física.
+     */
+    private static boolean passoEstavel(double[] antes, double[] depois, double h, double g, double vento) {
+        double limite = (rapidez(antes[2] - vento, antes[3]) + g * h) * (1 + 1e-9);
+        return rapidez(depois[2] - vento, depois[3]) <= limite
+                && Double.isFinite(depois[0]) && Double.isFinite(depois[1]);
+    }
+
+    /**
+     * Ajusta τ para que a componente {@code indice} do estado (1: y; 3: vy) se anule, por
+     * Newton, refazendo o passo de {@code antes} com largura τ. Deixa em {@code teste}
+     * o estado no τ devolvido.
+     */
+    private double refinar(int k, double[] antes, double tau, double h, int indice,
+                           boolean rk4, double tolerancia, double[] teste) {
+        double g = gravidades[k], arrasto = arrastos[k], vento = ventos[k];
+        double[][] etapas = rk4 ? null : new double[DP_A.length][4];
+        for (int i = 0; i <= REFINAMENTOS_POUSO; i++) {
+            if (rk4) {
+                passoRK4(antes, tau, g, arrasto, vento, teste);
+            } else {
+                passoDP(antes, tau, g, arrasto, vento, teste, etapas, i > 0, tolerancia);
+            }
+            if (i == REFINAMENTOS_POUSO) break;
+            double derivada = (indice == 1) ? teste[3] : aceleracaoY(teste[2], teste[3], g, arrasto, vento);
+            if (derivada == 0) break;
+            tau = Math.max(0, Math.min(h, tau - teste[indice] / derivada));
+        }
+        return tau;
+    }
+
+    /**
+     * Menor τ em [0, h] com y + vy τ + ay τ² / 2 = 0 (y ≥ 0).
+     */
+    private static double raizPositiva(double y, double vy, double ay, double h) {
+        if (y <= 0) return 0;
+        if (ay == 0) return Math.min(h, -y / vy);
+        double delta = vy * vy - 2 * ay * y;
+        if (delta < 0) return h;
+        double raiz = Math.sqrt(delta);
+        double t1 = (-vy + raiz) / ay;
+        double t2 = (-vy - raiz) / ay;
+        double menor = Math.min(t1, t2), maior = Math.max(t1, t2);
+        double tau = menor >= 0 ? menor : maior;
+        return Math.max(0, Math.min(h, tau));
+    }
+
+    private static double aceleracaoX(double vx, double vy, double arrasto, double vento) {
+        double rx = vx - vento;
+        return -arrasto * rapidez(rx, vy) * rx;
+    }
+
+    private static double aceleracaoY(double vx, double vy, double g, double arrasto, double vento) {
+        double rx = vx - vento;
+        return -g - arrasto * rapidez(rx, vy) * vy;
+    }
+
+    /** Módulo da velocidade relativa ao ar (sem a proteção contra overflow de Math.hypot, que é bem mais lento). */
+    private static double rapidez(double vx, double vy) {
+        return Math.sqrt(vx * vx + vy * vy);
+    }
+
+    /**
+     * Um passo de RK4 a partir de s = (x, y, vx, vy). A aceleração só depende da velocidade,
+     * então as etapas intermediárias só precisam das velocidades.
+     */
+    private static void passoRK4(double[] s, double h, double g, double arrasto, double vento, double[] saida) {
+        double vx1 = s[2], vy1 = s[3];
+        double q1 = arrasto * rapidez(vx1 - vento, vy1);
+        double ax1 = -q1 * (vx1 - vento), ay1 = -g - q1 * vy1;
+
+        double vx2 = vx1 + h / 2 * ax1, vy2 = vy1 + h / 2 * ay1;
+        double q2 = arrasto * rapidez(vx2 - vento, vy2);
+        double ax2 = -q2 * (vx2 - vento), ay2 = -g - q2 * vy2;
+
+        double vx3 = vx1 + h / 2 * ax2, vy3 = vy1 + h / 2 * ay2;
+        double q3 = arrasto * rapidez(vx3 - vento, vy3);
+        double ax3 = -q3 * (vx3 - vento), ay3 = -g - q3 * vy3;
+
+        double vx4 = vx1 + h * ax3, vy4 = vy1 + h * ay3;
+        double q4 = arrasto * rapidez(vx4 - vento, vy4);
+        double ax4 = -q4 * (vx4 - vento), ay4 = -g - q4 * vy4;
+
+        saida[0] = s[0] + h / 6 * (vx1 + 2 * vx2 + 2 * vx3 + vx4);
+        saida[1] = s[1] + h / 6 * (vy1 + 2 * vy2 + 2 * vy3 + vy4);
+        saida[2] = vx1 + h / 6 * (ax1 + 2 * ax2 + 2 * ax3 + ax4);
+        saida[3] = vy1 + h / 6 * (ay1 + 2 * ay2 + 2 * ay3 + ay4);
+    }
+
+    /**
+     * Um passo de Dormand–Prince a partir de s, com a solução de 5ª ordem em {@code saida}.
+     * Com {@code primeiraValida}, {@code etapas[0]} já tem a derivada em s (a última etapa do
+     * passo aceito anterior, ou a de uma tentativa rejeitada a partir do mesmo s) e não é
+     * recalculada.
+     *
+     * @return Erro estimado relativo à tolerância (≤ 1 para aceitar o passo)
+     */
+    private static double passoDP(double[] s, double h, double g, double arrasto, double vento,
+                                  double[] saida, double[][] etapas, boolean primeiraValida,
+                                  double tolerancia) {
+        for (int e = primeiraValida ? 1 : 0; e < DP_A.length; e++) {
+            double[] ai = DP_A[e];
+            double vx = s[2], vy = s[3];
+            for (int j = 0; j < ai.length; j++) {
+                vx += h * ai[j] * etapas[j][2];
+                vy += h * ai[j] * etapas[j][3];
+            }
+            double q = arrasto * rapidez(vx - vento, vy);
+            double[] d = etapas[e];
+            d[0] = vx;
+            d[1] = vy;
+            d[2] = -q * (vx - vento);
+            d[3] = -g - q * vy;
+        }
+
+        // A última etapa é avaliada na própria solução de 5ª ordem (pesos = última linha de DP_A)
+        double[] b = DP_A[DP_A.length - 1];
+        double erro = 0;
+        for (int v = 0; v < 4; v++) {
+            double soma = 0, estimativa = 0;
+            for (int j = 0; j < b.length; j++) {
+                soma += b[j] * etapas[j][v];
+            }
+            for (int j = 0; j < DP_E.length; j++) {
+                estimativa += DP_E[j] * etapas[j][v];
+            }
+            saida[v] = s[v] + h * soma;
+            double escala = tolerancia * (1 + Math.max(Math.abs(s[v]), Math.abs(saida[v])));
+            erro = Math.max(erro, Math.abs(h * estimativa) / escala);
+        }
+        return erro;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("SimuladorProjeteis[projéteis = %d, última simulação: %d passos, %.1f M passos/s]",
+                quantidade, ultimosPassos, passosPorSegundo() / 1e6);
+    }
+
+    private static void validar(boolean condicao, String mensagem) {
+        if (!condicao) {
+            throw new IllegalArgumentException(mensagem);
+        }
+    }
+}
@@ -0,0 +1,178 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * Gera a tabela tempo x altura de um lançamento, y(t) = a*t² + b*t + c, com {@code pontos + 1}
+ * linhas igualmente espaçadas entre 0 e {@code tFinal} (as mesmas de
+ * {@link Back#imprimirTabelaDeAlturas}). As linhas são montadas em um vetor de caracteres com o
+ * {@link FormatadorDecimal} e entregues ao destino em blocos grandes, em vez de um printf por linha.
+ *
+ * Formatos:
+ *   TEXTO:   "t = 0.00 s → y = 0.00 m", uma linha por ponto (o da saída do terminal), com o
+ *            separador decimal do idioma do usuário, como no printf ("t = 0,00 s" em pt-BR)
+ *   CSV:     cabeçalho "tempo,altura" e uma linha "t,y" por ponto, sempre com ponto decimal
+ *   BINARIO: só para canais; little-endian, cabeçalho de 4 bytes "ALT1", 3 x float64 (a, b, c),
+ *            int64 quantidade de linhas, seguido de linhas x (float64 tempo, float64 altura)
+ */
+public final class TabelaAlturas {
+
+    public enum Formato { TEXTO, CSV, BINARIO }
+
+    /** Caracteres acumulados antes de entregar a um Appendable. */
+    private static final int BLOCO_TEXTO = 1 << 16;
+    /** Tamanho do buffer de bytes para canais. */
+    private static final int TAMANHO_BUFFER = 1 << 20;
+    private static final byte[] ASSINATURA_BINARIA = {'A', 'L', 'T', '1'};
+
+    private TabelaAlturas() {
+    }
+
+    /**
+     * Escreve a tabela em texto ou CSV em {@code destino} (um Writer, StringBuilder,
+     * System.out etc.), com {@code casas} casas decimais (0 a {@link FormatadorDecimal#CASAS_MAXIMAS}).
+     *
+     * @throws IllegalArgumentException se o formato for BINARIO ou {@code casas} for inválido
+     */
+    public static void escrever(double a, double b, double c, double tFinal, int pontos,
+                                Formato formato, int casas, Appendable destino) throws IOException {
+        if (formato == Formato.BINARIO) {
+            throw new IllegalArgumentException("O formato binário só pode ser gravado em um canal.");
+        }
+        validarCasas(casas);
+
+        StringBuilder bloco = new StringBuilder(BLOCO_TEXTO);
+        char[] linha = new char[tamanhoLinha(casas)];
+        char separador = separador(formato);
+        if (formato == Formato.CSV) {
+            bloco.append("tempo,altura\n");
+        }
+        double passo = tFinal / pontos;
+        for (int i = 0; i <= pontos; i++) {
+            double t = i * passo;
+            int n = montarLinha(linha, formato, t, Back.calcularAlturaNoTempo(a, b, c, t), casas, separador);
+            if (bloco.length() + n > BLOCO_TEXTO) {
+                destino.append(bloco);
+                bloco.setLength(0);
+            }
+            bloco.append(linha, 0, n);
+        }
+        destino.append(bloco);
+    }
+
+    /**
+     * Escreve a tabela em {@code canal} em qualquer formato (texto e CSV em UTF-8). Com BINARIO,
+     * {@code casas} é ignorado. O canal não é fechado.
+     *
+     * @throws IllegalArgumentException se {@code casas} for inválido para texto ou CSV
+     */
+    public static void escrever(double a, double b, double c, double tFinal, int pontos,
+                                Formato formato, int casas, WritableByteChannel canal) throws IOException {
+        if (formato != Formato.BINARIO) {
+            validarCasas(casas);
+        }
+        ByteBuffer buffer = ByteBuffer.allocateDirect(TAMANHO_BUFFER).order(ByteOrder.LITTLE_ENDIAN);
+        double passo = tFinal / pontos;
+
+        if (formato == Formato.BINARIO) {
+            buffer.put(ASSINATURA_BINARIA).putDouble(a).putDouble(b).putDouble(c)
+                    .putLong(Math.max(0, (long) pontos + 1));
+            for (int i = 0; i <= pontos; i++) {
+                if (buffer.remaining() < 2 * Double.BYTES) {
+                    esvaziar(canal, buffer);
+                }
+                double t = i * passo;
+                buffer.putDouble(t).putDouble(Back.calcularAlturaNoTempo(a, b, c, t));
+            }
+        } else {
+            char[] linha = new char[tamanhoLinha(casas)];
+            char separador = separador(formato);
+            if (formato == Formato.CSV) {
+                codificar(canal, buffer, "tempo,altura\n".toCharArray(), 13);
+            }
+            for (int i = 0; i <= pontos; i++) {
+                double t = i * passo;
+                int n = montarLinha(linha, formato, t, Back.calcularAlturaNoTempo(a, b, c, t), casas, separador);
+                codificar(canal, buffer, linha, n);
+            }
+        }
+        esvaziar(canal, buffer);
+    }
+
+    private static void validarCasas(int casas) {
+        if (casas < 0 || casas > FormatadorDecimal.CASAS_MAXIMAS) {
+            throw new IllegalArgumentException("As casas decimais devem estar entre 0 e "
+                    + FormatadorDecimal.CASAS_MAXIMAS + ".");
+        }
+    }
+
+    private static char separador(Formato formato) {
+        return formato == Formato.TEXTO ? FormatadorDecimal.separadorDoIdioma() : '.';
+    }
+
+    private static int tamanhoLinha(int casas) {
+        return 2 * FormatadorDecimal.tamanhoMaximo(casas) + 32;
+    }
+
+    /**
+     * Monta uma linha da tabela em {@code linha} e devolve a quantidade de caracteres.
+     */
+    private static int montarLinha(char[] linha, Formato formato, double t, double y, int casas,
+                                   char separador) {
+        int p = 0;
+        if (formato == Formato.CSV) {
+            p = FormatadorDecimal.escrever(linha, p, t, casas, separador);
+            linha[p++] = ',';
+            p = FormatadorDecimal.escrever(linha, p, y, casas, separador);
+        } else {
+            p = copiar(linha, p, "t = ");
+            p = FormatadorDecimal.escrever(linha, p, t, casas, separador);
+            p = copiar(linha, p, " s → y = ");
+            p = FormatadorDecimal.escrever(linha, p, y, casas, separador);
+            p = copiar(linha, p, " m");
+        }
+        linha[p++] = '\n';
+        return p;
+    }
+
+    private static int copiar(char[] destino, int pos, String texto) {
+        texto.getChars(0, texto.length(), destino, pos);
+        return pos + texto.length();
+    }
+
+    /**
+     * Codifica os caracteres em UTF-8 no buffer, esvaziando-o quando necessário. As linhas
+     * não têm pares substitutos, então cada caractere ocupa de 1 a 3 bytes.
+     */
+    private static void codificar(WritableByteChannel canal, ByteBuffer buffer, char[] texto, int n)
+            throws IOException {
+        if (buffer.remaining() < 3 * n) {
+            esvaziar(canal, buffer);
+        }
+        for (int i = 0; i < n; i++) {
+            char ch = texto[i];
+            if (ch < 0x80) {
+                buffer.put((byte) ch);
+            } else if (ch < 0x800) {
+                buffer.put((byte) (0xC0 | (ch >> 6)));
+                buffer.put((byte) (0x80 | (ch & 0x3F)));
+            } else {
+                buffer.put((byte) (0xE0 | (ch >> 12)));
+                buffer.put((byte) (0x80 | ((ch >> 6) & 0x3F)));
+                buffer.put((byte) (0x80 | (ch & 0x3F)));
+            }
+        }
+    }
+
+    /**
+     * Grava o conteúdo pendente do buffer no canal e o deixa pronto para novas escritas.
+     */
+    private static void esvaziar(WritableByteChannel canal, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            canal.write(buffer);
+        }
+        buffer.clear();
+    }
+}
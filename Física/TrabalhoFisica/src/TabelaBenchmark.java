@@ -0,0 +1,167 @@
+import java.io.IOException;
+import java.util.Formatter;
+import java.util.Locale;
+import java.util.SplittableRandom;
+
+/**
+ * Conferências e medições simples da tabela de alturas e do {@link FormatadorDecimal}.
+ * Executar com: java -cp bin TabelaBenchmark [pontos]
+ * (para conferir outro idioma: java -Duser.language=pt -Duser.country=BR -cp bin TabelaBenchmark)
+ */
+public class TabelaBenchmark {
+
+    public static void main(String[] args) throws IOException {
+        int pontos = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        Locale idioma = Locale.getDefault(Locale.Category.FORMAT);
+        char separador = FormatadorDecimal.separadorDoIdioma();
+
+        System.out.println("Idioma: " + idioma.toLanguageTag() + " (separador decimal '" + separador + "')");
+        compararFormatador(Locale.ROOT, '.');
+        if (separador != '.') {
+            compararFormatador(idioma, separador);
+        }
+        compararTabela(pontos);
+        medirFormatador();
+    }
+
+    /**
+     * Confere {@link FormatadorDecimal} contra {@code String.format("%.nf")} no idioma informado,
+     * para 0 a {@link FormatadorDecimal#CASAS_MAXIMAS} casas: valores aleatórios de várias ordens
+     * de grandeza, empates na casa seguinte (…5), -0.0, arredondamentos que criam um dígito novo,
+     * NaN, infinitos e valores em torno do limite do caminho rápido.
+     */
+    private static void compararFormatador(Locale idioma, char separador) {
+        double[] especiais = {
+                0.0, -0.0, -0.001, -0.004, -0.005, 0.005, 0.015, 0.125, 0.5, 1.5, 2.5, -2.5,
+                1.005, 2.675, 1.0005, 0.045, 1.115, 8.345, 1e-9, 5e-10, 4.9e-10,
+                9.5, 9.995, 99.995, 0.9999, 0.99999, 999.9995, 9_999_999.9999999, -9.995, -0.9999,
+                Double.NaN, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY,
+                Double.MAX_VALUE, -Double.MAX_VALUE, Double.MIN_VALUE, Double.MIN_NORMAL,
+                999.9999999995, 1e3, 1e12, 1e12 + 0.5, 999_999_999_999.5, 1e15, 4503599627370495.5,
+                9.007199254740993e15, 1e21, 123456789.123456789,
+        };
+        SplittableRandom aleatorio = new SplittableRandom(42);
+        char[] destino = new char[FormatadorDecimal.tamanhoMaximo(FormatadorDecimal.CASAS_MAXIMAS)];
+        long casos = 0, diferencas = 0;
+
+        for (int casas = 0; casas <= FormatadorDecimal.CASAS_MAXIMAS; casas++) {
+            for (double valor : especiais) {
+                diferencas += conferir(valor, casas, idioma, separador, destino, diferencas);
+                casos++;
+            }
+            for (int i = 0; i < 200_000; i++) {
+                double valor;
+                switch (i % 4) {
+                    case 0: // qualquer ordem de grandeza de 1e-12 a 1e18
+                        valor = Math.pow(10, aleatorio.nextDouble(-12, 18)) * (aleatorio.nextBoolean() ? 1 : -1);
+                        break;
+                    case 1: // faixa típica da calculadora
+                        valor = aleatorio.nextDouble(-1e4, 1e4);
+                        break;
+                    case 2: // empate decimal exato na casa seguinte: k + 0,5 unidades da última casa
+                        valor = (aleatorio.nextLong(-10_000_000, 10_000_000) + 0.5) / Math.pow(10, casas);
+                        break;
+                    default: // poucos dígitos, que geram empates e "vai um" com frequência
+                        valor = aleatorio.nextLong(-100_000, 100_000) / Math.pow(10, aleatorio.nextInt(1, 7));
+                        break;
+                }
+                diferencas += conferir(valor, casas, idioma, separador, destino, diferencas);
+                casos++;
+            }
+        }
+
+        String nome = idioma.equals(Locale.ROOT) ? "ponto decimal" : idioma.toLanguageTag();
+        System.out.println("\n== FormatadorDecimal x String.format (" + nome + ") ==");
+        System.out.printf("%d casos (0 a %d casas): %d diferenças%n", casos, FormatadorDecimal.CASAS_MAXIMAS, diferencas);
+    }
+
+    /**
+     * @return 1 se {@link FormatadorDecimal} diferir de {@code String.format} (imprime as
+     * primeiras diferenças), 0 se coincidir
+     */
+    private static int conferir(double valor, int casas, Locale idioma, char separador, char[] destino,
+                                long diferencasAnteriores) {
+        String esperado = String.format(idioma, "%." + casas + "f", valor);
+        String obtido = new String(destino, 0, FormatadorDecimal.escrever(destino, 0, valor, casas, separador));
+        if (esperado.equals(obtido)) return 0;
+        if (diferencasAnteriores < 10) {
+            System.out.printf("  %s com %d casas: esperado %s, obtido %s%n", Double.toString(valor), casas, esperado, obtido);
+        }
+        return 1;
+    }
+
+    /**
+     * Confere {@link TabelaAlturas} contra o laço de printf que {@link Back#imprimirTabelaDeAlturas}
+     * usava (texto no idioma do usuário) e contra o CSV equivalente com ponto decimal, e compara
+     * o tempo dos dois.
+     */
+    private static void compararTabela(int pontos) throws IOException {
+        Back.Solucao s = Back.resolver(9.8, 20, 5, null);
+        double a = s.a, b = s.b, c = s.c, tFinal = s.tTotal;
+
+        System.out.println("\n== TabelaAlturas x printf: " + (pontos + 1) + " linhas ==");
+        for (int repeticao = 0; repeticao < 2; repeticao++) { // a primeira é aquecimento
+            long t0 = System.nanoTime();
+            StringBuilder printf = new StringBuilder();
+            Formatter formatador = new Formatter(printf);
+            double passo = tFinal / pontos;
+            for (int i = 0; i <= pontos; i++) {
+                double t = i * passo;
+                formatador.format("t = %.2f s → y = %.2f m\n", t, Back.calcularAlturaNoTempo(a, b, c, t));
+            }
+            long nsPrintf = System.nanoTime() - t0;
+
+            t0 = System.nanoTime();
+            StringBuilder texto = new StringBuilder();
+            TabelaAlturas.escrever(a, b, c, tFinal, pontos, TabelaAlturas.Formato.TEXTO, 2, texto);
+            long nsTexto = System.nanoTime() - t0;
+
+            StringBuilder csvPrintf = new StringBuilder("tempo,altura\n");
+            Formatter formatadorCsv = new Formatter(csvPrintf, Locale.ROOT);
+            for (int i = 0; i <= pontos; i++) {
+                double t = i * passo;
+                formatadorCsv.format("%.2f,%.2f\n", t, Back.calcularAlturaNoTempo(a, b, c, t));
+            }
+            StringBuilder csv = new StringBuilder();
+            TabelaAlturas.escrever(a, b, c, tFinal, pontos, TabelaAlturas.Formato.CSV, 2, csv);
+
+            if (repeticao == 1) {
+                System.out.printf("texto igual ao printf: %s; CSV igual ao printf com ponto: %s%n",
+                        texto.toString().equals(printf.toString()), csv.toString().equals(csvPrintf.toString()));
+                System.out.printf("printf %.1f ms, TabelaAlturas (texto) %.1f ms%n", nsPrintf / 1e6, nsTexto / 1e6);
+            }
+        }
+    }
+
+    /**
+     * Vazão de {@link FormatadorDecimal} e de {@code String.format} com 2 casas.
+     */
+    private static void medirFormatador() {
+        SplittableRandom aleatorio = new SplittableRandom(7);
+        char[] destino = new char[FormatadorDecimal.tamanhoMaximo(2)];
+        double[] valores = new double[1 << 16];
+        for (int i = 0; i < valores.length; i++) {
+            valores[i] = aleatorio.nextDouble(0, 1e4);
+        }
+        System.out.println("\n== Vazão com 2 casas ==");
+        for (int repeticao = 0; repeticao < 2; repeticao++) { // a primeira é aquecimento
+            long t0 = System.nanoTime();
+            long soma = 0;
+            for (int i = 0; i < 20; i++) {
+                for (double valor : valores) {
+                    soma += FormatadorDecimal.escrever(destino, 0, valor, 2);
+                }
+            }
+            long rapido = System.nanoTime() - t0;
+            t0 = System.nanoTime();
+            for (double valor : valores) {
+                soma += String.format(Locale.ROOT, "%.2f", valor).length();
+            }
+            long format = (System.nanoTime() - t0) * 20;
+            if (repeticao == 1) {
+                System.out.printf("FormatadorDecimal %.1f M números/s, String.format %.1f M números/s (%d caracteres)%n",
+                        20.0 * valores.length * 1e3 / rapido, 20.0 * valores.length * 1e3 / format, soma);
+            }
+        }
+    }
+}
@@ -0,0 +1,94 @@
+import fisica.jmh.KernelsLancamento;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * Liga os benchmarks (pacote fisica.jmh) à classe Back do TrabalhoFisica, que está no pacote padrão.
+ */
+public class PonteLancamento implements KernelsLancamento {
+
+    private final Back.Solucao solucao = new Back.Solucao();
+
+    @Override
+    public double calcularTempoTotal(double a, double b, double c) {
+        return Back.calcularTempoTotal(a, b, c);
+    }
+
+    @Override
+    public double calcularAlturaMaxima(double a, double b, double c) {
+        return Back.calcularAlturaMaxima(a, b, c);
+    }
+
+    @Override
+    public double calcularAlturaNoTempo(double a, double b, double c, double t) {
+        return Back.calcularAlturaNoTempo(a, b, c, t);
+    }
+
+    @Override
+    public double sequenciaSeparada(double gravidade, double v0, double y0) {
+        double[] coef = Back.calcularCoeficientes(gravidade, v0, y0);
+        double tMax = Back.calcularTempoAlturaMax(coef[0], coef[1]);
+        double yMax = Back.calcularAlturaMaxima(coef[0], coef[1], coef[2]);
+        double tTotal = Back.calcularTempoTotal(coef[0], coef[1], coef[2]);
+        return tMax + yMax + tTotal;
+    }
+
+    @Override
+    public double resolverReaproveitando(double gravidade, double v0, double y0) {
+        Back.Solucao s = Back.resolver(gravidade, v0, y0, solucao);
+        return s.tMax + s.yMax + s.tTotal;
+    }
+
+    @Override
+    public double resolverNova(double gravidade, double v0, double y0) {
+        Back.Solucao s = Back.resolver(gravidade, v0, y0, null);
+        return s.tMax + s.yMax + s.tTotal;
+    }
+
+    @Override
+    public void calcularLote(double[] gravidades, double[] v0s, double[] y0s,
+                             double[] tMax, double[] yMax, double[] tTotal) {
+        Back.calcularLote(gravidades, v0s, y0s, tMax, yMax, tTotal);
+    }
+
+    @Override
+    public void calcularLoteSequencial(double[] gravidades, double[] v0s, double[] y0s,
+                                       double[] tMax, double[] yMax, double[] tTotal) {
+        Back.calcularLote(gravidades, v0s, y0s, tMax, yMax, tTotal, 0, gravidades.length);
+    }
+
+    @Override
+    public void calcularLoteIndividual(double[] gravidades, double[] v0s, double[] y0s,
+                                       double[] tMax, double[] yMax, double[] tTotal) {
+        for (int i = 0; i < gravidades.length; i++) {
+            double[] coef = Back.calcularCoeficientes(gravidades[i], v0s[i], y0s[i]);
+            tMax[i] = Back.calcularTempoAlturaMax(coef[0], coef[1]);
+            yMax[i] = Back.calcularAlturaMaxima(coef[0], coef[1], coef[2]);
+            tTotal[i] = Back.calcularTempoTotal(coef[0], coef[1], coef[2]);
+        }
+    }
+
+    @Override
+    public void tabelaPrintf(double a, double b, double c, double tFinal, int pontos, PrintStream destino) {
+        double passo = tFinal / pontos;
+        for (int i = 0; i <= pontos; i++) {
+            double t = i * passo;
+            double y = Back.calcularAlturaNoTempo(a, b, c, t);
+            destino.printf("t = %.2f s → y = %.2f m\n", t, y);
+        }
+    }
+
+    @Override
+    public void tabela(double a, double b, double c, double tFinal, int pontos, String formato, int casas,
+                       Appendable destino) throws IOException {
+        TabelaAlturas.escrever(a, b, c, tFinal, pontos, TabelaAlturas.Formato.valueOf(formato), casas, destino);
+    }
+
+    @Override
+    public void tabela(double a, double b, double c, double tFinal, int pontos, String formato, int casas,
+                       WritableByteChannel canal) throws IOException {
+        TabelaAlturas.escrever(a, b, c, tFinal, pontos, TabelaAlturas.Formato.valueOf(formato), casas, canal);
+    }
+}
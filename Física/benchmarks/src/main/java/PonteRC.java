@@ -0,0 +1,46 @@
+import fisica.jmh.KernelsRC;
+
+/**
+ * Liga os benchmarks (pacote fisica.jmh) ao código do Trabalho2, que está no pacote padrão.
+ */
+public class PonteRC implements KernelsRC {
+
+    @Override
+    public Object calcularCorrente(double R, double C, double V0, double tStart, double tEnd, double step) {
+        return RCCircuitCalculator.calcularCorrente(R, C, V0, tStart, tEnd, step);
+    }
+
+    @Override
+    public Object calcularCorrenteColunas(double R, double C, double V0, double tStart, double tEnd, double step,
+                                          Object curva) {
+        return RCCircuitCalculator.calcularCorrente(R, C, V0, tStart, tEnd, step, (RCCircuitCalculator.Curva) curva);
+    }
+
+    @Override
+    public Object novaCurva() {
+        return new RCCircuitCalculator.Curva();
+    }
+
+    @Override
+    public int tamanho(Object curva) {
+        return ((RCCircuitCalculator.Curva) curva).tamanho();
+    }
+
+    @Override
+    public double tempoMaximo(Object curva) {
+        RCCircuitCalculator.Curva c = (RCCircuitCalculator.Curva) curva;
+        return c.tempo(c.tamanho() - 1);
+    }
+
+    @Override
+    public double correnteMaxima(Object curva) {
+        return ((RCCircuitCalculator.Curva) curva).correnteMaxima();
+    }
+
+    @Override
+    public void converterParaPixels(Object curva, double tMax, double iMax, int largura, int altura,
+                                    int[] xs, int[] ys) {
+        ChartGenerator.converterParaPixels((RCCircuitCalculator.Curva) curva, tMax, iMax,
+                60, 60 + altura, largura, altura, xs, ys);
+    }
+}
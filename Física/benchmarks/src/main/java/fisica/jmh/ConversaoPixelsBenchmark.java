@@ -0,0 +1,59 @@
+package fisica.jmh;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Conversão ponto → pixel usada por ChartGenerator.GraficoPanel.paintComponent,
+ * numa área útil igual à da janela padrão (800x600 com margem de 60). As escalas (tMax, iMax)
+ * são calculadas uma vez na preparação, como o painel faz ao receber os dados, então só a
+ * conversão é medida.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConversaoPixelsBenchmark {
+
+    private static final int LARGURA = 800 - 2 * 60;
+    private static final int ALTURA = 600 - 2 * 60;
+
+    @Param({"1000", "100000", "1000000"})
+    public int amostras;
+
+    private KernelsRC kernels;
+    private Object curva;
+    private double tMax;
+    private double iMax;
+    private int[] xs;
+    private int[] ys;
+
+    @Setup
+    public void preparar() {
+        kernels = Pontes.rc();
+        curva = kernels.calcularCorrenteColunas(1000, 0.001, 5, 0, 5, 5.0 / (amostras - 1), kernels.novaCurva());
+        tMax = kernels.tempoMaximo(curva);
+        iMax = kernels.correnteMaxima(curva);
+        xs = new int[kernels.tamanho(curva)];
+        ys = new int[xs.length];
+    }
+
+    @Benchmark
+    public int[] converter() {
+        kernels.converterParaPixels(curva, tMax, iMax, LARGURA, ALTURA, xs, ys);
+        return ys;
+    }
+}
@@ -0,0 +1,45 @@
+package fisica.jmh;
+
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.File;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Ponto de entrada do benchmarks.jar. Aceita as mesmas opções do JMH e, se nenhum
+ * formato de resultado for informado (-rf/-rff), grava o resultado em JSON em
+ * resultados/jmh-AAAAMMDD-HHMMSS.json, para comparar execuções ao longo do tempo.
+ * As consultas (-h, -l, -lp, -lprof, -lrf) não executam nada e vão direto para o
+ * {@link Main} do JMH, sem gravar resultado.
+ *
+ * Uso: java -jar target/benchmarks.jar [filtro] [opções do JMH]
+ */
+public class Executar {
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException, IOException {
+        CommandLineOptions linhaDeComando = new CommandLineOptions(args);
+        if (linhaDeComando.shouldHelp() || linhaDeComando.shouldList() || linhaDeComando.shouldListWithParams()
+                || linhaDeComando.shouldListProfilers() || linhaDeComando.shouldListResultFormats()) {
+            Main.main(args);
+            return;
+        }
+        ChainedOptionsBuilder opcoes = new OptionsBuilder().parent(linhaDeComando);
+
+        if (!linhaDeComando.getResultFormat().hasValue() && !linhaDeComando.getResult().hasValue()) {
+            String carimbo = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss"));
+            new File("resultados").mkdirs();
+            opcoes.resultFormat(ResultFormatType.JSON).result("resultados/jmh-" + carimbo + ".json");
+        }
+
+        new Runner(opcoes.build()).run();
+    }
+}
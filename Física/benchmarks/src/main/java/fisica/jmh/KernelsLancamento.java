@@ -0,0 +1,51 @@
+package fisica.jmh;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * Operações de Back (TrabalhoFisica) usadas nos benchmarks.
+ * Implementada por {@code PonteLancamento}, no pacote padrão.
+ */
+public interface KernelsLancamento {
+
+    double calcularTempoTotal(double a, double b, double c);
+
+    double calcularAlturaMaxima(double a, double b, double c);
+
+    double calcularAlturaNoTempo(double a, double b, double c, double t);
+
+    /**
+     * Sequência usada antes de Back.resolver: calcularCoeficientes, calcularTempoAlturaMax,
+     * calcularAlturaMaxima e calcularTempoTotal. Devolve tMax + yMax + tTotal.
+     */
+    double sequenciaSeparada(double gravidade, double v0, double y0);
+
+    /** Back.resolver com uma solução reaproveitada. Devolve tMax + yMax + tTotal. */
+    double resolverReaproveitando(double gravidade, double v0, double y0);
+
+    /** Back.resolver criando uma solução nova a cada chamada. Devolve tMax + yMax + tTotal. */
+    double resolverNova(double gravidade, double v0, double y0);
+
+    void calcularLote(double[] gravidades, double[] v0s, double[] y0s,
+                      double[] tMax, double[] yMax, double[] tTotal);
+
+    void calcularLoteSequencial(double[] gravidades, double[] v0s, double[] y0s,
+                                double[] tMax, double[] yMax, double[] tTotal);
+
+    /** Sequência atual da interface: coeficientes, tempo e altura máxima e tempo total, um lançamento por vez. */
+    void calcularLoteIndividual(double[] gravidades, double[] v0s, double[] y0s,
+                                double[] tMax, double[] yMax, double[] tTotal);
+
+    /** Laço anterior de Back.imprimirTabelaDeAlturas: um printf("t = %.2f s → y = %.2f m\n") por linha. */
+    void tabelaPrintf(double a, double b, double c, double tFinal, int pontos, PrintStream destino);
+
+    /** TabelaAlturas.escrever para um Appendable; {@code formato} é o nome de TabelaAlturas.Formato. */
+    void tabela(double a, double b, double c, double tFinal, int pontos, String formato, int casas,
+                Appendable destino) throws IOException;
+
+    /** TabelaAlturas.escrever para um canal; {@code formato} é o nome de TabelaAlturas.Formato. */
+    void tabela(double a, double b, double c, double tFinal, int pontos, String formato, int casas,
+                WritableByteChannel canal) throws IOException;
+}
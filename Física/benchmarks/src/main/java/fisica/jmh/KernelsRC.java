@@ -0,0 +1,33 @@
+package fisica.jmh;
+
+/**
+ * Operações do simulador RC (Trabalho2) usadas nos benchmarks.
+ *
+ * O código dos trabalhos está no pacote padrão, que não pode ser importado daqui;
+ * a implementação ({@code PonteRC}) fica no pacote padrão e é carregada por {@link Pontes}.
+ * Curvas são expostas como {@code Object} pelo mesmo motivo.
+ */
+public interface KernelsRC {
+
+    /** RCCircuitCalculator.calcularCorrente, devolvendo a List&lt;Ponto&gt;. */
+    Object calcularCorrente(double R, double C, double V0, double tStart, double tEnd, double step);
+
+    /** RCCircuitCalculator.calcularCorrente em colunas, reaproveitando {@code curva}. */
+    Object calcularCorrenteColunas(double R, double C, double V0, double tStart, double tEnd, double step,
+                                   Object curva);
+
+    /** Cria uma curva vazia para ser reaproveitada. */
+    Object novaCurva();
+
+    /** Quantidade de amostras da curva. */
+    int tamanho(Object curva);
+
+    /** Tempo da última amostra (borda direita do gráfico). */
+    double tempoMaximo(Object curva);
+
+    /** Maior corrente da curva (borda superior do gráfico); percorre todas as amostras. */
+    double correnteMaxima(Object curva);
+
+    /** ChartGenerator.converterParaPixels com a área útil e as escalas informadas. */
+    void converterParaPixels(Object curva, double tMax, double iMax, int largura, int altura, int[] xs, int[] ys);
+}
@@ -0,0 +1,81 @@
+package fisica.jmh;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Funções de Back em laços apertados sobre um lote fixo de lançamentos.
+ * Os resultados são acumulados para que o JIT não elimine as chamadas.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LancamentoBenchmark {
+
+    private static final int LOTE = 1024;
+    private static final double[] GRAVIDADES = {9.8, 1.62, 3.71, 24.79, 8.87, 3.7, 10.44, 8.69, 11.15};
+
+    private KernelsLancamento kernels;
+    private final double[] a = new double[LOTE];
+    private final double[] b = new double[LOTE];
+    private final double[] c = new double[LOTE];
+    private final double[] t = new double[LOTE];
+
+    @Setup
+    public void preparar() {
+        kernels = Pontes.lancamento();
+        Random aleatorio = new Random(42);
+        for (int i = 0; i < LOTE; i++) {
+            double g = GRAVIDADES[aleatorio.nextInt(GRAVIDADES.length)];
+            a[i] = -g / 2;
+            b[i] = aleatorio.nextDouble() * 100;
+            c[i] = aleatorio.nextDouble() * 50;
+            t[i] = aleatorio.nextDouble() * 10;
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOTE)
+    public double tempoTotal() {
+        double soma = 0;
+        for (int i = 0; i < LOTE; i++) {
+            soma += kernels.calcularTempoTotal(a[i], b[i], c[i]);
+        }
+        return soma;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOTE)
+    public double alturaMaxima() {
+        double soma = 0;
+        for (int i = 0; i < LOTE; i++) {
+            soma += kernels.calcularAlturaMaxima(a[i], b[i], c[i]);
+        }
+        return soma;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOTE)
+    public double alturaNoTempo() {
+        double soma = 0;
+        for (int i = 0; i < LOTE; i++) {
+            soma += kernels.calcularAlturaNoTempo(a[i], b[i], c[i], t[i]);
+        }
+        return soma;
+    }
+}
@@ -0,0 +1,73 @@
+package fisica.jmh;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Back.calcularLote sobre uma população de um milhão de lançamentos (g, v0, y0), em paralelo
+ * e em uma thread, comparado com a chamada das funções individuais para cada lançamento.
+ * O resultado é em lançamentos por microssegundo (milhões por segundo).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LoteLancamentoBenchmark {
+
+    private static final int POPULACAO = 1_000_000;
+    private static final double[] GRAVIDADES = {9.8, 1.62, 3.71, 24.79, 8.87, 3.7, 10.44, 8.69, 11.15};
+
+    private KernelsLancamento kernels;
+    private final double[] gravidades = new double[POPULACAO];
+    private final double[] v0s = new double[POPULACAO];
+    private final double[] y0s = new double[POPULACAO];
+    private final double[] tMax = new double[POPULACAO];
+    private final double[] yMax = new double[POPULACAO];
+    private final double[] tTotal = new double[POPULACAO];
+
+    @Setup
+    public void preparar() {
+        kernels = Pontes.lancamento();
+        Random aleatorio = new Random(42);
+        for (int i = 0; i < POPULACAO; i++) {
+            gravidades[i] = GRAVIDADES[aleatorio.nextInt(GRAVIDADES.length)];
+            v0s[i] = aleatorio.nextDouble() * 100;
+            y0s[i] = aleatorio.nextDouble() * 50;
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(POPULACAO)
+    public double[] loteParalelo() {
+        kernels.calcularLote(gravidades, v0s, y0s, tMax, yMax, tTotal);
+        return tTotal;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(POPULACAO)
+    public double[] loteSequencial() {
+        kernels.calcularLoteSequencial(gravidades, v0s, y0s, tMax, yMax, tTotal);
+        return tTotal;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(POPULACAO)
+    public double[] individual() {
+        kernels.calcularLoteIndividual(gravidades, v0s, y0s, tMax, yMax, tTotal);
+        return tTotal;
+    }
+}
@@ -0,0 +1,26 @@
+package fisica.jmh;
+
+/**
+ * Carrega as implementações das interfaces de kernels que ficam no pacote padrão.
+ */
+final class Pontes {
+
+    private Pontes() {
+    }
+
+    static KernelsRC rc() {
+        return carregar(KernelsRC.class, "PonteRC");
+    }
+
+    static KernelsLancamento lancamento() {
+        return carregar(KernelsLancamento.class, "PonteLancamento");
+    }
+
+    private static <T> T carregar(Class<T> tipo, String nomeClasse) {
+        try {
+            return tipo.cast(Class.forName(nomeClasse).getDeclaredConstructor().newInstance());
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Não foi possível carregar " + nomeClasse, e);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package fisica.jmh;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * RCCircuitCalculator.calcularCorrente em vários tamanhos de grade,
+ * pelo caminho com List&lt;Ponto&gt; e pelo caminho em colunas.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RCCircuitBenchmark {
+
+    private static final double R = 1000;
+    private static final double C = 0.001;
+    private static final double V0 = 5;
+    private static final double T_END = 5;
+
+    @Param({"1000", "100000", "1000000"})
+    public int amostras;
+
+    private KernelsRC kernels;
+    private Object curva;
+    private double step;
+
+    @Setup
+    public void preparar() {
+        kernels = Pontes.rc();
+        curva = kernels.novaCurva();
+        step = T_END / (amostras - 1);
+    }
+
+    @Benchmark
+    public Object lista() {
+        return kernels.calcularCorrente(R, C, V0, 0, T_END, step);
+    }
+
+    @Benchmark
+    public Object colunas() {
+        return kernels.calcularCorrenteColunas(R, C, V0, 0, T_END, step, curva);
+    }
+}
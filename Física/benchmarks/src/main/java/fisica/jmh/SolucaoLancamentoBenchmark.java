@@ -0,0 +1,79 @@
+package fisica.jmh;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Solução completa de um lançamento (tMax, yMax, tTotal): sequência de funções separadas de Back,
+ * com o double[] de calcularCoeficientes, contra Back.resolver com solução reaproveitada e nova.
+ * Rodar com {@code -prof gc} para ver a alocação por operação.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SolucaoLancamentoBenchmark {
+
+    private static final int LOTE = 1024;
+    private static final double[] GRAVIDADES = {9.8, 1.62, 3.71, 24.79, 8.87, 3.7, 10.44, 8.69, 11.15};
+
+    private KernelsLancamento kernels;
+    private final double[] gravidades = new double[LOTE];
+    private final double[] v0s = new double[LOTE];
+    private final double[] y0s = new double[LOTE];
+
+    @Setup
+    public void preparar() {
+        kernels = Pontes.lancamento();
+        Random aleatorio = new Random(42);
+        for (int i = 0; i < LOTE; i++) {
+            gravidades[i] = GRAVIDADES[aleatorio.nextInt(GRAVIDADES.length)];
+            v0s[i] = aleatorio.nextDouble() * 100;
+            y0s[i] = aleatorio.nextDouble() * 50;
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOTE)
+    public double sequenciaSeparada() {
+        double soma = 0;
+        for (int i = 0; i < LOTE; i++) {
+            soma += kernels.sequenciaSeparada(gravidades[i], v0s[i], y0s[i]);
+        }
+        return soma;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOTE)
+    public double resolverReaproveitando() {
+        double soma = 0;
+        for (int i = 0; i < LOTE; i++) {
+            soma += kernels.resolverReaproveitando(gravidades[i], v0s[i], y0s[i]);
+        }
+        return soma;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOTE)
+    public double resolverNova() {
+        double soma = 0;
+        for (int i = 0; i < LOTE; i++) {
+            soma += kernels.resolverNova(gravidades[i], v0s[i], y0s[i]);
+        }
+        return soma;
+    }
+}
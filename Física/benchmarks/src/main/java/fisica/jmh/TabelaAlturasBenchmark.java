@@ -0,0 +1,117 @@
+package fisica.jmh;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tabela tempo x altura com 10⁶ linhas, descartando a saída: um printf por linha (laço anterior
+ * de Back.imprimirTabelaDeAlturas) contra TabelaAlturas em texto, CSV e binário. O tempo é por linha.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TabelaAlturasBenchmark {
+
+    private static final int PONTOS = 1_000_000;
+    private static final int LINHAS = PONTOS + 1;
+    private static final double A = -4.9, B = 23.7, C = 1.3, T_FINAL = 5.1;
+
+    private KernelsLancamento kernels;
+    private PrintStream printStream;
+    private Writer descarte;
+    private WritableByteChannel canal;
+    /** Caracteres e bytes recebidos pelos destinos descartáveis, para a saída não ser eliminada. */
+    private long recebidos;
+
+    @Setup
+    public void preparar() {
+        kernels = Pontes.lancamento();
+        printStream = new PrintStream(OutputStream.nullOutputStream(), false, StandardCharsets.UTF_8);
+        descarte = new Writer() {
+            @Override
+            public void write(char[] cbuf, int off, int len) {
+                recebidos += len;
+            }
+
+            @Override
+            public Writer append(CharSequence csq) {
+                recebidos += csq.length();
+                return this;
+            }
+
+            @Override
+            public void flush() {
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+        canal = new WritableByteChannel() {
+            @Override
+            public int write(ByteBuffer origem) {
+                int n = origem.remaining();
+                origem.position(origem.limit());
+                recebidos += n;
+                return n;
+            }
+
+            @Override
+            public boolean isOpen() {
+                return true;
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LINHAS)
+    public void printfPorLinha() {
+        kernels.tabelaPrintf(A, B, C, T_FINAL, PONTOS, printStream);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LINHAS)
+    public long textoAppendable() throws IOException {
+        kernels.tabela(A, B, C, T_FINAL, PONTOS, "TEXTO", 2, descarte);
+        return recebidos;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LINHAS)
+    public long csvCanal() throws IOException {
+        kernels.tabela(A, B, C, T_FINAL, PONTOS, "CSV", 6, canal);
+        return recebidos;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LINHAS)
+    public long binarioCanal() throws IOException {
+        kernels.tabela(A, B, C, T_FINAL, PONTOS, "BINARIO", 0, canal);
+        return recebidos;
+    }
+}
@@ -0,0 +1,494 @@
+import javax.management.Attribute;
+import javax.management.AttributeList;
+import javax.management.AttributeNotFoundException;
+import javax.management.DynamicMBean;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.MBeanAttributeInfo;
+import javax.management.MBeanInfo;
+import javax.management.MBeanOperationInfo;
+import javax.management.MBeanParameterInfo;
+import javax.management.ObjectName;
+import javax.management.ReflectionException;
+import java.awt.*;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Instrumentação leve dos pontos quentes dos dois trabalhos (simulador RC e calculadora de
+ * lançamento): contadores, histogramas de latência (cálculos e pinturas), quadros por segundo
+ * dos painéis e atraso dos timers de animação.
+ *
+ * Desligada por padrão. Com {@code -Dmetricas=true}, as medidas são coletadas e, depois de
+ * {@link #publicar(String)} no ponto de entrada da aplicação, publicadas via JMX em
+ * {@value #PREFIXO_JMX}{@code <aplicação>} (JConsole, VisualVM); com
+ * {@code -Dmetricas.sobreposicao=true}, também aparecem num quadro sobre cada gráfico. Como {@link #ATIVO} é uma constante, as
+ * chamadas abaixo viram código morto quando a instrumentação está desligada e o JIT as remove:
+ * <pre>
+ *     long inicio = TEMPO.inicio();
+ *     ...
+ *     TEMPO.registrarDesde(inicio);
+ * </pre>
+ * Ligada, cada medida custa duas leituras do relógio e um incremento atômico; operações de
+ * poucos nanossegundos devem usar um histograma com amostragem ({@link #histograma(String, int)}).
+ * Os histogramas e contadores podem ser usados de qualquer thread.
+ *
+ * Fica fora dos dois trabalhos e é compilada junto com cada um:
+ *   javac -d bin src/*.java ../comum/src/*.java
+ */
+public final class Metricas {
+
+    /** Liga a sobreposição nos gráficos (e, com ela, a coleta). */
+    public static final boolean SOBREPOSICAO = Boolean.getBoolean("metricas.sobreposicao");
+    /** Liga a coleta e a publicação via JMX. */
+    public static final boolean ATIVO = SOBREPOSICAO || Boolean.getBoolean("metricas");
+
+    /** Nome JMX das medidas, sem o nome da aplicação (ver {@link #publicar(String)}). */
+    public static final String PREFIXO_JMX = "fisica:type=Metricas,app=";
+
+    private static final Map<String, Histograma> HISTOGRAMAS = new ConcurrentSkipListMap<>();
+    private static final Map<String, Contador> CONTADORES = new ConcurrentSkipListMap<>();
+    private static final Map<String, Pintura> PINTURAS = new ConcurrentSkipListMap<>();
+    /** Devolvido a todos os pedidos quando a coleta está desligada (nunca recebe valores). */
+    private static final Histograma INATIVO = new Histograma("inativo", 1);
+
+    private Metricas() {
+    }
+
+    /**
+     * Publica as medidas via JMX em {@value #PREFIXO_JMX}{@code app}, se a coleta estiver
+     * ligada. Chamado uma vez pelo ponto de entrada de cada aplicação; repetir o mesmo nome
+     * não faz nada.
+     */
+    public static synchronized void publicar(String app) {
+        if (!ATIVO) return;
+        String nome = PREFIXO_JMX + app;
+        try {
+            MBeanServer servidor = ManagementFactory.getPlatformMBeanServer();
+            ObjectName objeto = new ObjectName(nome);
+            if (!servidor.isRegistered(objeto)) {
+                servidor.registerMBean(new Exposicao(app), objeto);
+            }
+        } catch (JMException e) {
+            System.err.println("Métricas: não foi possível registrar " + nome + ": " + e.getMessage());
+        }
+    }
+
+    /** Histograma de latência com o nome informado (o mesmo objeto para o mesmo nome). */
+    public static Histograma histograma(String nome) {
+        return histograma(nome, 1);
+    }
+
+    /**
+     * Histograma que mede só uma a cada {@code amostragem} chamadas de {@link Histograma#inicio()},
+     * para operações curtas demais para o custo do relógio a cada chamada. A amostragem vale
+     * para a primeira criação do nome.
+     */
+    public static Histograma histograma(String nome, int amostragem) {
+        return ATIVO ? HISTOGRAMAS.computeIfAbsent(nome, n -> new Histograma(n, amostragem)) : INATIVO;
+    }
+
+    /** Contador com o nome informado (o mesmo objeto para o mesmo nome). */
+    public static Contador contador(String nome) {
+        return CONTADORES.computeIfAbsent(nome, n -> new Contador());
+    }
+
+    /** Medidas de pintura de um tipo de painel (tempo de pintura e quadros por segundo). */
+    public static Pintura pintura(String nome) {
+        return PINTURAS.computeIfAbsent(nome, Pintura::new);
+    }
+
+    /**
+     * Mede a regularidade de um timer que deveria disparar a cada {@code periodoNs}.
+     * Cada timer deve ter a sua; o histograma de atrasos é compartilhado pelo nome.
+     */
+    public static Cadencia cadencia(String nome, long periodoNs) {
+        return new Cadencia(histograma(nome), periodoNs);
+    }
+
+    /** Zera todos os histogramas, contadores e medidores de quadros. */
+    public static void zerar() {
+        HISTOGRAMAS.values().forEach(Histograma::zerar);
+        CONTADORES.values().forEach(Contador::zerar);
+        PINTURAS.values().forEach(p -> p.tempo.zerar());
+    }
+
+    /**
+     * Histograma de durações em nanossegundos no estilo HDR: faixas de potência de dois, cada
+     * uma dividida em {@value #SUBFAIXAS} partes iguais, então qualquer percentil é informado com
+     * erro relativo de no máximo 1/{@value #SUBFAIXAS} (6,25%), em memória fixa e sem alocar
+     * por registro. Quantidade e média também são obtidas das faixas.
+     */
+    public static final class Histograma {
+
+        private static final int BITS_SUBFAIXA = 4;
+        static final int SUBFAIXAS = 1 << BITS_SUBFAIXA;
+        /** Valores de 0 a 2⁶³ - 1: as 16 primeiras posições são exatas, depois 16 por potência de dois. */
+        private static final int POSICOES = (64 - BITS_SUBFAIXA) * SUBFAIXAS;
+
+        private final String nome;
+        private final int amostragem;
+        private final AtomicLongArray contagens = new AtomicLongArray(POSICOES);
+        private final AtomicLong maximo = new AtomicLong();
+        /** Chamadas de inicio(), para a amostragem; incrementado sem sincronização (perder algumas não importa). */
+        private int chamadas;
+
+        Histograma(String nome, int amostragem) {
+            if (amostragem < 1) {
+                throw new IllegalArgumentException("A amostragem deve ser pelo menos 1.");
+            }
+            this.nome = nome;
+            this.amostragem = amostragem;
+        }
+
+        public String nome() {
+            return nome;
+        }
+
+        /**
+         * Marca o início de uma medida: {@link System#nanoTime()}, ou 0 se a coleta estiver
+         * desligada ou esta chamada ficar fora da amostragem.
+         */
+        public long inicio() {
+            if (!ATIVO) return 0L;
+            if (amostragem > 1 && ++chamadas % amostragem != 0) return 0L;
+            return System.nanoTime();
+        }
+
+        /** Registra a duração desde {@code inicio} (obtido de {@link #inicio()}; 0 é ignorado). */
+        public void registrarDesde(long inicio) {
+            if (ATIVO && inicio != 0) {
+                registrar(System.nanoTime() - inicio);
+            }
+        }
+
+        /** Registra uma duração em nanossegundos (valores negativos contam como 0). */
+        public void registrar(long nanos) {
+            if (!ATIVO) return;
+            long valor = Math.max(0, nanos);
+            contagens.incrementAndGet(posicao(valor));
+            long atual;
+            while (valor > (atual = maximo.get()) && !maximo.compareAndSet(atual, valor)) {
+                // outra thread registrou um máximo ao mesmo tempo; tenta de novo
+            }
+        }
+
+        static int posicao(long valor) {
+            if (valor < SUBFAIXAS) return (int) valor;
+            int expoente = 63 - Long.numberOfLeadingZeros(valor);
+            int sub = (int) (valor >>> (expoente - BITS_SUBFAIXA)) & (SUBFAIXAS - 1);
+            return (expoente - BITS_SUBFAIXA + 1) * SUBFAIXAS + sub;
+        }
+
+        /** Maior valor que cai na posição {@code p}. */
+        static long limiteSuperior(int p) {
+            if (p < SUBFAIXAS) return p;
+            int expoente = p / SUBFAIXAS + BITS_SUBFAIXA - 1;
+            long largura = 1L << (expoente - BITS_SUBFAIXA);
+            return ((long) (SUBFAIXAS + p % SUBFAIXAS) << (expoente - BITS_SUBFAIXA)) + largura - 1;
+        }
+
+        /** Medidas registradas (com amostragem, só as amostradas). */
+        public long quantidade() {
+            long total = 0;
+            for (int i = 0; i < POSICOES; i++) {
+                total += contagens.get(i);
+            }
+            return total;
+        }
+
+        /** Média em nanossegundos, pelo centro de cada faixa (0 sem registros). */
+        public double media() {
+            long total = 0;
+            double soma = 0;
+            for (int i = 0; i < POSICOES; i++) {
+                long n = contagens.get(i);
+                if (n != 0) {
+                    long inferior = (i == 0) ? 0 : limiteSuperior(i - 1) + 1;
+                    total += n;
+                    soma += n * ((inferior + limiteSuperior(i)) / 2.0);
+                }
+            }
+            return total == 0 ? 0 : soma / total;
+        }
+
+        public long maximo() {
+            return maximo.get();
+        }
+
+        /**
+         * Percentil {@code p} (0 a 100) em nanossegundos: o limite superior da faixa que o
+         * contém, nunca acima do máximo registrado. 0 sem registros.
+         */
+        public long percentil(double p) {
+            long total = quantidade();
+            if (total == 0) return 0;
+            long alvo = Math.max(1, (long) Math.ceil(p / 100 * total));
+            long acumulado = 0;
+            for (int i = 0; i < POSICOES; i++) {
+                acumulado += contagens.get(i);
+                if (acumulado >= alvo) {
+                    return Math.min(limiteSuperior(i), maximo.get());
+                }
+            }
+            return maximo.get();
+        }
+
+        public void zerar() {
+            for (int i = 0; i < POSICOES; i++) {
+                contagens.set(i, 0);
+            }
+            maximo.set(0);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s[n = %d, média = %.1f µs, p50 = %.1f µs, p99 = %.1f µs, máx = %.1f µs]",
+                    nome, quantidade(), media() / 1e3, percentil(50) / 1e3, percentil(99) / 1e3, maximo() / 1e3);
+        }
+    }
+
+    /**
+     * Contador somado de várias threads sem disputa.
+     */
+    public static final class Contador {
+        private final LongAdder valor = new LongAdder();
+
+        public void somar(long n) {
+            if (ATIVO) {
+                valor.add(n);
+            }
+        }
+
+        public long valor() {
+            return valor.sum();
+        }
+
+        void zerar() {
+            valor.reset();
+        }
+    }
+
+    /**
+     * Tempo de pintura e quadros por segundo de um tipo de painel (somando todos os painéis
+     * abertos desse tipo). Usado apenas na EDT.
+     */
+    public static final class Pintura {
+
+        private static final long JANELA_NS = 1_000_000_000L;
+        private static final Font FONTE = new Font(Font.MONOSPACED, Font.PLAIN, 11);
+        private static final Color FUNDO = new Color(0, 0, 0, 160);
+
+        private final String nome;
+        private final Histograma tempo;
+        private long inicioJanela;
+        private int quadrosJanela;
+        private long ultimoQuadro;
+        private volatile double quadrosPorSegundo;
+
+        Pintura(String nome) {
+            this.nome = nome;
+            this.tempo = histograma("pintura." + nome);
+        }
+
+        public Histograma tempo() {
+            return tempo;
+        }
+
+        /** Marca o início de uma pintura (ver {@link Histograma#inicio()}). */
+        public long inicio() {
+            return tempo.inicio();
+        }
+
+        /** Quadros pintados por segundo no último segundo completo (0 se parou de pintar). */
+        public double quadrosPorSegundo() {
+            return System.nanoTime() - ultimoQuadro > 2 * JANELA_NS ? 0 : quadrosPorSegundo;
+        }
+
+        /**
+         * Encerra a medida de uma pintura iniciada em {@code inicio} e, com a sobreposição
+         * ligada, desenha as medidas sobre o painel.
+         */
+        public void terminar(Graphics g, long inicio) {
+            if (!ATIVO) return;
+            long agora = System.nanoTime();
+            tempo.registrar(agora - inicio);
+
+            // Primeiro quadro, ou o primeiro depois de uma pausa: começa uma janela nova
+            if (ultimoQuadro == 0 || agora - ultimoQuadro > 2 * JANELA_NS) {
+                inicioJanela = agora;
+                quadrosJanela = 0;
+            }
+            ultimoQuadro = agora;
+            quadrosJanela++;
+            if (agora - inicioJanela >= JANELA_NS) {
+                quadrosPorSegundo = quadrosJanela * 1e9 / (agora - inicioJanela);
+                inicioJanela = agora;
+                quadrosJanela = 0;
+            }
+            if (SOBREPOSICAO) {
+                desenhar(g);
+            }
+        }
+
+        private void desenhar(Graphics g) {
+            String[] linhas = {
+                nome,
+                String.format("%.1f quadros/s", quadrosPorSegundo),
+                String.format("pintura p50 %.2f ms", tempo.percentil(50) / 1e6),
+                String.format("pintura p99 %.2f ms", tempo.percentil(99) / 1e6)
+            };
+            Graphics2D g2 = (Graphics2D) g.create();
+            g2.setFont(FONTE);
+            FontMetrics fm = g2.getFontMetrics();
+            int largura = 0;
+            for (String linha : linhas) {
+                largura = Math.max(largura, fm.stringWidth(linha));
+            }
+            g2.setColor(FUNDO);
+            g2.fillRect(4, 4, largura + 10, linhas.length * fm.getHeight() + 6);
+            g2.setColor(Color.WHITE);
+            for (int i = 0; i < linhas.length; i++) {
+                g2.drawString(linhas[i], 9, 6 + fm.getAscent() + i * fm.getHeight());
+            }
+            g2.dispose();
+        }
+    }
+
+    /**
+     * Atraso de cada disparo de um timer em relação ao período esperado.
+     */
+    public static final class Cadencia {
+        private final Histograma atrasos;
+        private final long periodoNs;
+        private long ultimo;
+
+        Cadencia(Histograma atrasos, long periodoNs) {
+            this.atrasos = atrasos;
+            this.periodoNs = periodoNs;
+        }
+
+        /** Recomeça a medida (por exemplo, quando o timer volta a rodar depois de parado). */
+        public void reiniciar() {
+            ultimo = 0;
+        }
+
+        /** Registra um disparo ocorrido agora. */
+        public void disparo() {
+            if (ATIVO) {
+                disparo(System.nanoTime());
+            }
+        }
+
+        /** Registra um disparo ocorrido em {@code agora} ({@link System#nanoTime()}). */
+        public void disparo(long agora) {
+            if (!ATIVO) return;
+            if (ultimo != 0) {
+                atrasos.registrar(agora - ultimo - periodoNs);
+            }
+            ultimo = agora;
+        }
+    }
+
+    /**
+     * Publica as medidas via JMX. Cada histograma vira os atributos
+     * {@code <nome>.quantidade}, {@code .mediaUs}, {@code .p50Us}, {@code .p99Us}, {@code .p999Us}
+     * e {@code .maxUs}; cada contador, {@code <nome>}; cada painel, {@code pintura.<nome>.quadrosPorSegundo}.
+     */
+    private static final class Exposicao implements DynamicMBean {
+
+        private static final String[] SUFIXOS = {"quantidade", "mediaUs", "p50Us", "p99Us", "p999Us", "maxUs"};
+
+        private final String app;
+
+        Exposicao(String app) {
+            this.app = app;
+        }
+
+        @Override
+        public Object getAttribute(String atributo) throws AttributeNotFoundException {
+            Contador contador = CONTADORES.get(atributo);
+            if (contador != null) return contador.valor();
+            if (atributo.startsWith("pintura.") && atributo.endsWith(".quadrosPorSegundo")) {
+                Pintura pintura = PINTURAS.get(atributo.substring(8, atributo.length() - 18));
+                if (pintura != null) return pintura.quadrosPorSegundo();
+            }
+            int ponto = atributo.lastIndexOf('.');
+            Histograma h = ponto < 0 ? null : HISTOGRAMAS.get(atributo.substring(0, ponto));
+            if (h != null) {
+                switch (atributo.substring(ponto + 1)) {
+                    case "quantidade": return h.quantidade();
+                    case "mediaUs": return h.media() / 1e3;
+                    case "p50Us": return h.percentil(50) / 1e3;
+                    case "p99Us": return h.percentil(99) / 1e3;
+                    case "p999Us": return h.percentil(99.9) / 1e3;
+                    case "maxUs": return h.maximo() / 1e3;
+                    default: break;
+                }
+            }
+            throw new AttributeNotFoundException(atributo);
+        }
+
+        @Override
+        public void setAttribute(Attribute atributo) throws AttributeNotFoundException {
+            throw new AttributeNotFoundException("Os atributos de métricas são somente leitura.");
+        }
+
+        @Override
+        public AttributeList getAttributes(String[] atributos) {
+            AttributeList lista = new AttributeList();
+            for (String atributo : atributos) {
+                try {
+                    lista.add(new Attribute(atributo, getAttribute(atributo)));
+                } catch (AttributeNotFoundException e) {
+                    // atributos desconhecidos ficam de fora, como pede a interface
+                }
+            }
+            return lista;
+        }
+
+        @Override
+        public AttributeList setAttributes(AttributeList atributos) {
+            return new AttributeList();
+        }
+
+        @Override
+        public Object invoke(String operacao, Object[] parametros, String[] assinatura) throws ReflectionException {
+            if (operacao.equals("zerar")) {
+                zerar();
+                return null;
+            }
+            throw new ReflectionException(new NoSuchMethodException(operacao));
+        }
+
+        @Override
+        public MBeanInfo getMBeanInfo() {
+            List<MBeanAttributeInfo> atributos = new ArrayList<>();
+            for (String nome : HISTOGRAMAS.keySet()) {
+                for (String sufixo : SUFIXOS) {
+                    String tipo = sufixo.equals("quantidade") ? "long" : "double";
+                    atributos.add(new MBeanAttributeInfo(nome + "." + sufixo, tipo,
+                            "Histograma " + nome + ": " + sufixo, true, false, false));
+                }
+            }
+            for (String nome : CONTADORES.keySet()) {
+                atributos.add(new MBeanAttributeInfo(nome, "long", "Contador " + nome, true, false, false));
+            }
+            for (String nome : PINTURAS.keySet()) {
+                atributos.add(new MBeanAttributeInfo("pintura." + nome + ".quadrosPorSegundo", "double",
+                        "Quadros por segundo de " + nome, true, false, false));
+            }
+            MBeanOperationInfo zerar = new MBeanOperationInfo("zerar", "Zera todas as medidas",
+                    new MBeanParameterInfo[0], "void", MBeanOperationInfo.ACTION);
+            return new MBeanInfo(Metricas.class.getName(), "Métricas de " + app,
+                    atributos.toArray(new MBeanAttributeInfo[0]), null,
+                    new MBeanOperationInfo[]{zerar}, null);
+        }
+    }
+}